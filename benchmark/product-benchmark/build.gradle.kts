@@ -0,0 +1,15 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmhImplementation(project(":service:product"))
+    jmhImplementation(project(":common:data-serializer"))
+}
+
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+}
+
+tasks.bootJar { enabled = false }
@@ -0,0 +1,62 @@
+package org.icd4.commerce.benchmark;
+
+import commerce.common.dataserializer.DataSerializer;
+import org.icd4.commerce.domain.product.model.OptionCombination;
+import org.icd4.commerce.domain.product.model.ProductMoney;
+import org.icd4.commerce.domain.product.model.ProductVariant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변형의 옵션 조합을 읽는 비용.
+ *
+ * <ul>
+ *     <li>parseEveryCall: 변경 전 방식(읽을 때마다 JSON을 Map으로 파싱)</li>
+ *     <li>parsedOnce: ProductVariant.getOptionCombinationMap (처음 한 번 파싱한 OptionCombination 재사용)</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionCombinationBenchmark {
+    ProductVariant variant;
+    String json;
+
+    @Setup
+    public void setUp() {
+        variant = ProductVariant.create("benchmark-product", "seller",
+                Map.of("color", "red", "size", "L", "material", "cotton"), ProductMoney.of(BigDecimal.ONE, "KRW"), 1L);
+        json = variant.getOptionCombination();
+    }
+
+    @Benchmark
+    public int parseEveryCall() {
+        Map<?, ?> options = DataSerializer.deserialize(json, Map.class);
+        return options.size();
+    }
+
+    @Benchmark
+    public int parsedOnce() {
+        return variant.getOptionCombinationMap().size();
+    }
+
+    @Benchmark
+    public OptionCombination parse() {
+        return OptionCombination.parse(json);
+    }
+}
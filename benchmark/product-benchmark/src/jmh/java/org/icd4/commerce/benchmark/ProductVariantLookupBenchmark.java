@@ -0,0 +1,105 @@
+package org.icd4.commerce.benchmark;
+
+import org.icd4.commerce.domain.product.model.Product;
+import org.icd4.commerce.domain.product.model.ProductVariant;
+import org.icd4.commerce.domain.product.request.ProductCreateRequest;
+import org.icd4.commerce.domain.product.request.ProductVariantRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변형이 많은 상품에서 SKU로 변형을 찾는 비용.
+ *
+ * <ul>
+ *     <li>linearScan: 인덱스 도입 전 방식(변형 목록 전체 순회)</li>
+ *     <li>indexed: Product.findVariantBySku (SKU 인덱스)</li>
+ *     <li>addVariants: 변형 목록을 한 번에 추가 (SKU 생성 + 중복 검증 포함)</li>
+ * </ul>
+ * 실행: {@code ./gradlew :benchmark:product-benchmark:jmh}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductVariantLookupBenchmark {
+    @Param({"1000"})
+    int variantCount;
+
+    Product product;
+    List<ProductVariantRequest> requests;
+    String[] skus;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        requests = new ArrayList<>(variantCount);
+        for (int i = 0; i < variantCount; i++) {
+            requests.add(new ProductVariantRequest(
+                    "{\"color\":\"c" + (i % 20) + "\",\"size\":\"s" + i + "\"}", BigDecimal.valueOf(1000), "KRW", 10L));
+        }
+        product = newProduct();
+        product.addVariants(requests);
+        skus = product.getAllVariants().stream().map(ProductVariant::getSku).toArray(String[]::new);
+    }
+
+    @State(Scope.Thread)
+    public static class FreshProduct {
+        Product product;
+
+        @Setup(Level.Invocation)
+        public void setUp() throws ReflectiveOperationException {
+            product = newProduct();
+        }
+    }
+
+    @Benchmark
+    public ProductVariant linearScan() {
+        String sku = randomSku();
+        return product.getAllVariants().stream()
+                .filter(variant -> variant.getSku().equals(sku))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public ProductVariant indexed() {
+        return product.findVariantBySku(randomSku());
+    }
+
+    @Benchmark
+    public int addVariants(FreshProduct state) {
+        state.product.addVariants(requests);
+        return state.product.getVariantCount();
+    }
+
+    private String randomSku() {
+        return skus[ThreadLocalRandom.current().nextInt(skus.length)];
+    }
+
+    private static Product newProduct() throws ReflectiveOperationException {
+        Product product = Product.create(new ProductCreateRequest(
+                "seller", "category", "name", "brand", "description", BigDecimal.valueOf(1000), "KRW", List.of()));
+        Field id = Product.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(product, "benchmark-product");
+        return product;
+    }
+}
@@ -0,0 +1,83 @@
+package org.icd4.commerce.benchmark;
+
+import org.icd4.commerce.domain.product.model.OptionCombination;
+import org.icd4.commerce.domain.product.model.ProductVariant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * SKU 생성 처리량 (옵션 3개짜리 조합 1,000개를 한 번에 생성하는 벌크 등록 기준).
+ *
+ * <ul>
+ *     <li>previousStreamJoin: 변경 전 방식(Map 정렬 → 문자열 결합 → 32비트 hashCode)</li>
+ *     <li>legacyFormat: 같은 32비트 형식을 정렬된 OptionCombination에서 만드는 경우 (중복 검증용)</li>
+ *     <li>streamingHash64: 현재 방식(정렬된 옵션을 길이 접두사와 함께 64비트 해시에 바로 입력)</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkuGenerationBenchmark {
+    private static final int VARIANT_COUNT = 1_000;
+    private static final String PRODUCT_ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    Map<String, String>[] maps;
+    OptionCombination[] combinations;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        maps = new Map[VARIANT_COUNT];
+        combinations = new OptionCombination[VARIANT_COUNT];
+        for (int i = 0; i < VARIANT_COUNT; i++) {
+            maps[i] = Map.of("color", "color-" + (i % 10), "size", "size-" + (i % 7), "material", "material-" + i);
+            combinations[i] = OptionCombination.of(maps[i]);
+        }
+    }
+
+    @Benchmark
+    public int previousStreamJoin() {
+        int total = 0;
+        for (Map<String, String> options : maps) {
+            String optionHash = options.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> entry.getKey() + "_" + entry.getValue())
+                    .collect(Collectors.joining("_"));
+            total += (PRODUCT_ID + "_" + Integer.toHexString(optionHash.hashCode()).toUpperCase()).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int legacyFormat() {
+        int total = 0;
+        for (OptionCombination options : combinations) {
+            total += ProductVariant.generateLegacySku(PRODUCT_ID, options).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int streamingHash64() {
+        int total = 0;
+        for (OptionCombination options : combinations) {
+            total += ProductVariant.generateSku(PRODUCT_ID, options).length();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,27 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmhImplementation(project(":service:stock"))
+    jmhImplementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    jmhRuntimeOnly("com.h2database:h2")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+}
+
+tasks.bootJar { enabled = false }
+
+// 스레드 수(1~128)와 워크로드를 바꿔가며 전체 벤치마크를 실행합니다.
+// ./gradlew :benchmark:stock-benchmark:stockBenchmark -Pthreads=1,8,64
+tasks.register<JavaExec>("stockBenchmark") {
+    group = "benchmark"
+    description = "재고 변경 처리량(ops/sec)과 p99 지연 시간 기준선을 측정합니다."
+    dependsOn("jmhClasses")
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "org.icd4.commerce.benchmark.StockBenchmarkRunner"
+    project.findProperty("threads")?.let { args(it.toString()) }
+}
@@ -0,0 +1,94 @@
+package org.icd4.commerce.benchmark;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 재고 성능 변경의 기준선 측정.
+ * 스레드 수를 바꿔가며 모든 재고 벤치마크를 실행하고, 처리량(ops/sec)과 p99 지연 시간을 요약합니다.
+ *
+ * <pre>
+ * ./gradlew :benchmark:stock-benchmark:stockBenchmark                 # 1,2,4,8,16,32,64,128 스레드
+ * ./gradlew :benchmark:stock-benchmark:stockBenchmark -Pthreads=1,16  # 지정한 스레드 수만
+ * </pre>
+ * 원본 결과는 build/reports/jmh/stock-t{스레드 수}.json 에 저장됩니다.
+ */
+public class StockBenchmarkRunner {
+    private static final int[] DEFAULT_THREADS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+    public static void main(String[] args) throws RunnerException {
+        int[] threadCounts = args.length == 0 ? DEFAULT_THREADS
+                : Arrays.stream(args[0].split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+
+        File reportDir = new File("build/reports/jmh");
+        reportDir.mkdirs();
+
+        List<String> summary = new ArrayList<>();
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(StockDomainBenchmark.class.getSimpleName())
+                    .include(StockServiceBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(reportDir, "stock-t" + threads + ".json").getPath())
+                    .build();
+            summarize(threads, new Runner(options).run(), summary);
+        }
+
+        System.out.println();
+        System.out.printf("%-8s %-55s %-32s %15s %15s%n", "threads", "benchmark", "params", "ops/sec", "p99(us)");
+        summary.forEach(System.out::println);
+    }
+
+    private static void summarize(int threads, Collection<RunResult> results, List<String> summary) {
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            String params = result.getParams().getParamsKeys().stream()
+                    .map(key -> key + "=" + result.getParams().getParam(key))
+                    .reduce((a, b) -> a + "," + b)
+                    .orElse("");
+            Result<?> primary = result.getPrimaryResult();
+            switch (result.getParams().getMode()) {
+                case Throughput -> summary.add(String.format("%-8d %-55s %-32s %15.0f %15s",
+                        threads, shortName(benchmark), params,
+                        toOpsPerSecond(primary.getScore(), primary.getScoreUnit()), "-"));
+                case SampleTime -> summary.add(String.format("%-8d %-55s %-32s %15s %15.1f",
+                        threads, shortName(benchmark), params, "-",
+                        toMicros(primary.getStatistics().getPercentile(99), primary.getScoreUnit())));
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static String shortName(String benchmark) {
+        return benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+    }
+
+    private static double toOpsPerSecond(double score, String unit) {
+        return switch (unit) {
+            case "ops/ms" -> score * 1_000;
+            case "ops/us" -> score * 1_000_000;
+            default -> score;
+        };
+    }
+
+    private static double toMicros(double value, String unit) {
+        return switch (unit) {
+            case "ms/op" -> value * 1_000;
+            case "ns/op" -> value / 1_000;
+            default -> value;
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package org.icd4.commerce.benchmark;
+
+import org.icd4.commerce.domain.Stock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stock 엔티티의 수량 변경 자체의 비용.
+ *
+ * <ul>
+ *     <li>uniform: 스레드마다 다른 Stock을 변경 (경합 없음)</li>
+ *     <li>singleHotSku: 모든 스레드가 하나의 Stock을 락으로 보호하며 변경 (행 잠금과 같은 직렬화)</li>
+ * </ul>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class StockDomainBenchmark {
+    private static final long INITIAL_QUANTITY = 1_000_000_000L;
+
+    @State(Scope.Thread)
+    public static class ThreadStock {
+        Stock stock;
+
+        @Setup
+        public void setUp() {
+            stock = Stock.register("domain-uniform-" + Thread.currentThread().threadId(), INITIAL_QUANTITY);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedStock {
+        Stock stock;
+
+        @Setup
+        public void setUp() {
+            stock = Stock.register("domain-hot", INITIAL_QUANTITY);
+        }
+    }
+
+    @Benchmark
+    public Long decreaseThenIncrease_uniform(ThreadStock state) {
+        state.stock.decreaseQuantity(1L);
+        state.stock.increaseQuantity(1L);
+        return state.stock.getQuantity();
+    }
+
+    @Benchmark
+    public Long decreaseThenIncrease_singleHotSku(SharedStock state) {
+        synchronized (state.stock) {
+            state.stock.decreaseQuantity(1L);
+            state.stock.increaseQuantity(1L);
+            return state.stock.getQuantity();
+        }
+    }
+}
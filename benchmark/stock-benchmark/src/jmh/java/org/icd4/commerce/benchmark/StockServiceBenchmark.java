@@ -0,0 +1,129 @@
+package org.icd4.commerce.benchmark;
+
+import org.icd4.commerce.StockApplication;
+import org.icd4.commerce.application.provided.StockRegister;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * StockService를 통한 재고 변경 전체 경로(트랜잭션, 원장 기록, 캐시 무효화, 이벤트 포함)의 처리량.
+ *
+ * <ul>
+ *     <li>workload=SINGLE_HOT_SKU: 모든 스레드가 하나의 SKU를 변경</li>
+ *     <li>workload=UNIFORM: 스레드마다 {@value #UNIFORM_SKU_COUNT}개 SKU 중 임의로 골라 변경</li>
+ *     <li>path=entity: Stock 엔티티를 읽어 수정 후 저장 (버전 충돌 시 재시도)</li>
+ *     <li>path=conditional-update: UPDATE ... WHERE quantity >= :n 한 문장으로 변경</li>
+ *     <li>path=hot-counter: 메모리 카운터로 처리되는 핫 SKU</li>
+ * </ul>
+ * 실패한 요청 수는 failures 보조 지표로 함께 보고됩니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StockServiceBenchmark {
+    static final int UNIFORM_SKU_COUNT = 1024;
+    private static final long INITIAL_QUANTITY = 1_000_000_000L;
+
+    public enum Workload {SINGLE_HOT_SKU, UNIFORM}
+
+    @State(Scope.Benchmark)
+    public static class StockContext {
+        @Param({"SINGLE_HOT_SKU", "UNIFORM"})
+        Workload workload;
+
+        @Param({"entity", "conditional-update", "hot-counter"})
+        String path;
+
+        ConfigurableApplicationContext context;
+        StockRegister stockRegister;
+        String[] skus;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            int skuCount = workload == Workload.SINGLE_HOT_SKU ? 1 : UNIFORM_SKU_COUNT;
+            skus = IntStream.range(0, skuCount)
+                    .mapToObj(i -> "bench-sku-" + i)
+                    .toArray(String[]::new);
+
+            context = new SpringApplicationBuilder(StockApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(
+                            "spring.datasource.url=jdbc:h2:mem:stock-bench-" + UUID.randomUUID(),
+                            "spring.jpa.show-sql=false",
+                            "spring.jpa.properties.hibernate.format_sql=false",
+                            "spring.h2.console.enabled=false",
+                            "logging.level.root=WARN",
+                            "stock.conditional-update.enabled=" + "conditional-update".equals(path),
+                            "stock.hot-sku.skus=" + ("hot-counter".equals(path) ? String.join(",", skus) : ""))
+                    .run();
+            stockRegister = context.getBean(StockRegister.class);
+
+            Map<String, Long> quantities = new LinkedHashMap<>();
+            for (String sku : skus) {
+                quantities.put(sku, INITIAL_QUANTITY);
+            }
+            stockRegister.registerAll(quantities);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        String nextSku() {
+            return skus.length == 1 ? skus[0] : skus[ThreadLocalRandom.current().nextInt(skus.length)];
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Failures {
+        public long failures;
+    }
+
+    @Benchmark
+    public Long decreaseQuantity(StockContext state, Failures failures) {
+        return change(state, failures, true);
+    }
+
+    @Benchmark
+    public Long increaseQuantity(StockContext state, Failures failures) {
+        return change(state, failures, false);
+    }
+
+    private Long change(StockContext state, Failures failures, boolean decrease) {
+        String sku = state.nextSku();
+        try {
+            return decrease
+                    ? state.stockRegister.decreaseQuantity(sku, 1L)
+                    : state.stockRegister.increaseQuantity(sku, 1L);
+        } catch (RuntimeException e) {
+            failures.failures++;
+            return null;
+        }
+    }
+}
@@ -46,4 +46,5 @@ subprojects {
 
 project("common") { tasks.configureEach { enabled = false } }
 project("service") { tasks.configureEach { enabled = false } }
+project("benchmark") { tasks.configureEach { enabled = false } }
 
@@ -0,0 +1,31 @@
+package org.icd4.commerce.event.stock;
+
+import org.icd4.commerce.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * SKU의 재고 수량이 변경되었음을 알리는 이벤트.
+ * 같은 발행 주기 안의 여러 변경은 하나로 합쳐지며, quantity는 발행 시점의 최신 수량입니다.
+ */
+public record StockQuantityChangedEvent(
+        String sku,
+        long quantity,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return sku;
+    }
+
+    @Override
+    public String getEventType() {
+        return "StockQuantityChanged";
+    }
+}
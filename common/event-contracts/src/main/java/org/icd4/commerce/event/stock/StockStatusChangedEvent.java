@@ -0,0 +1,33 @@
+package org.icd4.commerce.event.stock;
+
+import org.icd4.commerce.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * SKU의 재고 상태(AVAILABLE, LOW_STOCK, OUT_OF_STOCK)가 바뀌었을 때만 발행되는 이벤트.
+ * 수량이 바뀌어도 상태가 그대로면 발행되지 않습니다.
+ */
+public record StockStatusChangedEvent(
+        String sku,
+        String previousStatus,
+        String status,
+        long quantity,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return sku;
+    }
+
+    @Override
+    public String getEventType() {
+        return "StockStatusChanged";
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * 재고 도메인 이벤트
+ * stock-service에서 발행하는 이벤트:
+ *
+ * - StockQuantityChangedEvent: SKU별 재고 수량 변경 이벤트 (발행 주기 동안의 마지막 수량)
+ * - StockStatusChangedEvent: 재고 상태 전이 이벤트 (AVAILABLE, LOW_STOCK, OUT_OF_STOCK)
+ */
+package org.icd4.commerce.event.stock;
@@ -0,0 +1,90 @@
+package org.icd4.commerce.adapter.http;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 검색/재고 서비스 호출에 공유하는 HTTP 클라이언트 설정.
+ *
+ * <ul>
+ *     <li>서비스(route)별로 keep-alive 연결을 풀에 유지해 요청마다 TCP 연결을 새로 맺지 않습니다.</li>
+ *     <li>연결/응답/풀 대기 시간에 상한을 두어, 상대 서비스가 느려져도 호출 스레드가 무한정 묶이지 않습니다.</li>
+ *     <li>Spring Boot가 제공하는 {@code RestClient.Builder}에 적용하므로, 엔드포인트(URI 템플릿)별 지연 시간이
+ *     {@code http.client.requests} 지표로 기록됩니다.</li>
+ * </ul>
+ */
+@Configuration
+public class OutboundHttpClientConfig {
+    public static final String OUTBOUND_EXECUTOR = "outboundHttpExecutor";
+
+    @Value("${product.http-client.max-connections:200}")
+    private int maxConnections = 200;
+
+    @Value("${product.http-client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute = 50;
+
+    @Value("${product.http-client.connect-timeout:1s}")
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    @Value("${product.http-client.response-timeout:3s}")
+    private Duration responseTimeout = Duration.ofSeconds(3);
+
+    @Value("${product.http-client.pool-acquire-timeout:1s}")
+    private Duration poolAcquireTimeout = Duration.ofSeconds(1);
+
+    @Value("${product.http-client.idle-timeout:30s}")
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    @Bean
+    public CloseableHttpClient outboundHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(responseTimeout))
+                        // 상대 쪽에서 이미 닫았을 수 있는 오래 쉰 연결은 재사용 전에 확인합니다.
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+    }
+
+    @Bean
+    public RestClientCustomizer outboundHttpClientCustomizer(CloseableHttpClient outboundHttpClient) {
+        return builder -> builder.requestFactory(new HttpComponentsClientHttpRequestFactory(outboundHttpClient));
+    }
+
+    /**
+     * 여러 원격 호출을 동시에 보낼 때 쓰는 실행기. 호출은 대부분 응답 대기이므로 가상 스레드를 사용하고,
+     * 동시에 열리는 연결 수는 커넥션 풀이 제한합니다.
+     */
+    @Bean(name = OUTBOUND_EXECUTOR, destroyMethod = "close")
+    public ExecutorService outboundHttpExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbound-http-", 0).factory());
+    }
+}
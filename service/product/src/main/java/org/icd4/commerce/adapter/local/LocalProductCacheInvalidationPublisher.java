@@ -0,0 +1,22 @@
+package org.icd4.commerce.adapter.local;
+
+import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.application.query.ProductLocalCache;
+import org.icd4.commerce.application.required.ProductCacheInvalidationPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스(로컬 개발, 테스트)용 구현체. 채널 없이 현재 인스턴스의 L1 캐시만 바로 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.cache.invalidation", havingValue = "local", matchIfMissing = true)
+public class LocalProductCacheInvalidationPublisher implements ProductCacheInvalidationPublisher {
+    private final ProductLocalCache productLocalCache;
+
+    @Override
+    public void publish(String productId) {
+        productLocalCache.invalidate(productId);
+    }
+}
@@ -2,13 +2,25 @@ package org.icd4.commerce.adapter.redis;
 
 import commerce.common.dataserializer.DataSerializer;
 import lombok.RequiredArgsConstructor;
-import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
+import org.icd4.commerce.application.required.ProductCacheEntry;
+import org.icd4.commerce.application.required.ProductCacheLookup;
 import org.icd4.commerce.application.required.ProductQueryRepository;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Repository
 @RequiredArgsConstructor
@@ -16,35 +28,176 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
     private final StringRedisTemplate redisTemplate;
 
     private static final String KEY_FORMAT = "product::product::%s";
+    private static final String MISSING_KEY_FORMAT = "product::missing::%s";
+    private static final String GENERATION_KEY_FORMAT = "product::generation::%s";
+
+    /**
+     * 세대 키는 진행 중인 DB 조회보다 충분히 오래 남아 있으면 되므로, 하루 동안 변경이 없으면 정리합니다.
+     */
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    // KEYS: 값 키, 세대 키 / ARGV: 값, TTL(ms), 기록한 세대
+    private static final RedisScript<Long> SET_IF_GENERATION_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[3] then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS: (값 키, 세대 키) 반복 / ARGV: TTL(ms), (값, 기록한 세대) 반복
+    private static final RedisScript<Long> SET_ALL_IF_GENERATION_SCRIPT = new DefaultRedisScript<>("""
+            local created = 0
+            for i = 1, #KEYS, 2 do
+                if (redis.call('GET', KEYS[i + 1]) or '0') == ARGV[i + 2] then
+                    redis.call('SET', KEYS[i], ARGV[i + 1], 'PX', ARGV[1])
+                    created = created + 1
+                end
+            end
+            return created
+            """, Long.class);
+
+    // 세대를 먼저 올려야 삭제 직후 도착한 이전 스냅샷의 저장이 거부됩니다.
+    // KEYS: 세대 키, 값 키, 없는 상품 키 / ARGV: 세대 키 TTL(ms)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return redis.call('DEL', KEYS[2], KEYS[3])
+            """, Long.class);
 
     @Override
-    public void create(ProductResponse response, Duration ttl) {
-        redisTemplate.opsForValue().set(generateKey(response), DataSerializer.serialize(response), ttl);
+    public void create(ProductCacheEntry entry, Duration ttl, long expectedGeneration) {
+        String productId = entry.response().productId();
+        redisTemplate.execute(SET_IF_GENERATION_SCRIPT,
+                List.of(generateKey(productId), generateGenerationKey(productId)),
+                DataSerializer.serialize(entry), String.valueOf(ttl.toMillis()), String.valueOf(expectedGeneration));
     }
 
     @Override
-    public void update(ProductResponse response) {
-        redisTemplate.opsForValue().setIfPresent(generateKey(response), DataSerializer.serialize(response));
+    public void update(ProductCacheEntry entry, Duration ttl) {
+        redisTemplate.opsForValue().setIfPresent(generateKey(entry), DataSerializer.serialize(entry), ttl);
     }
 
     @Override
     public void delete(String productId) {
-        redisTemplate.delete(generateKey(productId));
+        redisTemplate.execute(INVALIDATE_SCRIPT,
+                List.of(generateGenerationKey(productId), generateKey(productId), generateMissingKey(productId)),
+                String.valueOf(GENERATION_TTL.toMillis()));
     }
 
     @Override
-    public Optional<ProductResponse> read(String productId) {
+    public long generation(String productId) {
+        return toGeneration(redisTemplate.opsForValue().get(generateGenerationKey(productId)));
+    }
+
+    @Override
+    public Map<String, Long> generations(Collection<String> productIds) {
+        List<String> ids = List.copyOf(productIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::generateGenerationKey).toList());
+        Map<String, Long> generations = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            generations.put(ids.get(i), toGeneration(values == null ? null : values.get(i)));
+        }
+        return generations;
+    }
+
+    @Override
+    public Optional<ProductCacheEntry> read(String productId) {
         return Optional.ofNullable(
                         redisTemplate.opsForValue().get(generateKey(productId)))
-                .map(json -> DataSerializer.deserialize(json, ProductResponse.class)
-                );
+                .map(json -> DataSerializer.deserialize(json, ProductCacheEntry.class))
+                // 이전 형식(ProductResponse를 그대로 저장)의 값은 미스로 취급해 새 형식으로 다시 채웁니다.
+                .filter(entry -> entry.response() != null);
+    }
+
+    @Override
+    public ProductCacheLookup readAll(Collection<String> productIds) {
+        List<String> ids = List.copyOf(productIds);
+        List<String> keys = new ArrayList<>(ids.size() * 2);
+        ids.forEach(productId -> keys.add(generateKey(productId)));
+        ids.forEach(productId -> keys.add(generateMissingKey(productId)));
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return new ProductCacheLookup(List.of(), Set.of());
+        }
+
+        List<ProductCacheEntry> entries = new ArrayList<>();
+        Set<String> missingIds = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String json = values.get(i);
+            ProductCacheEntry entry = json == null ? null : DataSerializer.deserialize(json, ProductCacheEntry.class);
+            if (entry != null && entry.response() != null) {
+                entries.add(entry);
+            } else if (values.get(ids.size() + i) != null) {
+                missingIds.add(ids.get(i));
+            }
+        }
+        return new ProductCacheLookup(entries, missingIds);
+    }
+
+    @Override
+    public void createAll(Collection<ProductCacheEntry> entries, Duration ttl, Map<String, Long> expectedGenerations) {
+        Map<String, String> values = new LinkedHashMap<>();
+        entries.forEach(entry -> values.put(entry.response().productId(), DataSerializer.serialize(entry)));
+        setAllIfGeneration(values, this::generateKey, ttl, expectedGenerations);
     }
 
-    private String generateKey(ProductResponse response) {
-        return generateKey(response.productId());
+    @Override
+    public void markMissing(String productId, Duration ttl, long expectedGeneration) {
+        redisTemplate.execute(SET_IF_GENERATION_SCRIPT,
+                List.of(generateMissingKey(productId), generateGenerationKey(productId)),
+                "1", String.valueOf(ttl.toMillis()), String.valueOf(expectedGeneration));
+    }
+
+    @Override
+    public void markAllMissing(Collection<String> productIds, Duration ttl, Map<String, Long> expectedGenerations) {
+        Map<String, String> values = new LinkedHashMap<>();
+        productIds.forEach(productId -> values.put(productId, "1"));
+        setAllIfGeneration(values, this::generateMissingKey, ttl, expectedGenerations);
+    }
+
+    @Override
+    public boolean isMarkedMissing(String productId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(generateMissingKey(productId)));
+    }
+
+    /**
+     * 상품 ID별 값을 한 번의 스크립트 실행으로 저장합니다. 무효화 세대가 기록한 값과 다른 상품은 건너뜁니다.
+     */
+    private void setAllIfGeneration(Map<String, String> valuesByProductId, Function<String, String> keyGenerator,
+                                    Duration ttl, Map<String, Long> expectedGenerations) {
+        if (valuesByProductId.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        valuesByProductId.forEach((productId, value) -> {
+            keys.add(keyGenerator.apply(productId));
+            keys.add(generateGenerationKey(productId));
+            args.add(value);
+            args.add(String.valueOf(expectedGenerations.getOrDefault(productId, 0L)));
+        });
+        redisTemplate.execute(SET_ALL_IF_GENERATION_SCRIPT, keys, args.toArray());
+    }
+
+    private String generateKey(ProductCacheEntry entry) {
+        return generateKey(entry.response().productId());
     }
 
     private String generateKey(String productId) {
         return KEY_FORMAT.formatted(productId);
     }
+
+    private String generateMissingKey(String productId) {
+        return MISSING_KEY_FORMAT.formatted(productId);
+    }
+
+    private String generateGenerationKey(String productId) {
+        return GENERATION_KEY_FORMAT.formatted(productId);
+    }
+
+    private long toGeneration(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
 }
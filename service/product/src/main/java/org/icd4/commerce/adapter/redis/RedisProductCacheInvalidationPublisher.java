@@ -0,0 +1,24 @@
+package org.icd4.commerce.adapter.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.application.required.ProductCacheInvalidationPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 채널로 상품 ID를 발행합니다. 발행한 인스턴스를 포함해 구독 중인 모든 인스턴스가 L1에서 제거합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.cache.invalidation", havingValue = "redis")
+public class RedisProductCacheInvalidationPublisher implements ProductCacheInvalidationPublisher {
+    static final String CHANNEL = "product::cache::invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void publish(String productId) {
+        redisTemplate.convertAndSend(CHANNEL, productId);
+    }
+}
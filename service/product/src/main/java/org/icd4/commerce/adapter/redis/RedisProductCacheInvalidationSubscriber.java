@@ -0,0 +1,34 @@
+package org.icd4.commerce.adapter.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.query.ProductLocalCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 캐시 무효화 채널을 구독해 이 인스턴스의 L1 캐시에서 해당 상품을 제거합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "product.cache.invalidation", havingValue = "redis")
+public class RedisProductCacheInvalidationSubscriber {
+
+    @Bean
+    public RedisMessageListenerContainer productCacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                                   ProductLocalCache productLocalCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String productId = new String(message.getBody(), StandardCharsets.UTF_8);
+            log.debug("상품 L1 캐시 무효화: productId={}", productId);
+            productLocalCache.invalidate(productId);
+        }, new ChannelTopic(RedisProductCacheInvalidationPublisher.CHANNEL));
+        return container;
+    }
+}
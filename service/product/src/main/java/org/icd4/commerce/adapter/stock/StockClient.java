@@ -3,46 +3,53 @@ package org.icd4.commerce.adapter.stock;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.icd4.commerce.application.required.ProductStockClient;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class StockClient implements ProductStockClient {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final RestClient.Builder restClientBuilder;
     private RestClient restClient;
     @Value("${endpoints.stock-service.url}")
     private String stockServiceUrl;
 
     @PostConstruct
     public void init() {
-        this.restClient = RestClient.builder()
+        this.restClient = restClientBuilder
                 .baseUrl(stockServiceUrl)
                 .build();
     }
 
-    //TODO 실패 시 재시도, 장애 시 서킷브레이커 등 설정 필요 (동기, 비동기 상관없이)
     @Override
     public String updateStock(String sku, Long quantity) {
-        try {
-            // 재고 등록을 위한 요청 객체 생성
-            StockRegisterRequest request = new StockRegisterRequest(sku, quantity);
+        return restClient.post()
+                .uri("/api/stocks")
+                .body(new StockRegisterRequest(sku, quantity))
+                .retrieve()
+                .body(String.class);
+    }
 
-            return restClient.post()
-                    .uri("/api/stocks")
-                    .body(request)
-                    .retrieve()
-                    .body(String.class);
-        } catch (Exception e) {
-            log.error("[StockClient.updateStock()] sku={}, quantity={}", sku, quantity, e);
-        }
-        return null;
+    @Override
+    public String registerStocks(Map<String, Long> quantities, String idempotencyKey) {
+        List<StockRegisterRequest> stocks = quantities.entrySet().stream()
+                .map(entry -> new StockRegisterRequest(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return restClient.post()
+                .uri("/api/stocks/bulk")
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(new StockBulkRegisterRequest(stocks))
+                .retrieve()
+                .body(String.class);
     }
 
     // 요청 DTO 클래스 추가
@@ -57,6 +64,15 @@ public class StockClient implements ProductStockClient {
         }
     }
 
+    @Getter
+    public static class StockBulkRegisterRequest {
+        private List<StockRegisterRequest> stocks;
+
+        public StockBulkRegisterRequest(List<StockRegisterRequest> stocks) {
+            this.stocks = stocks;
+        }
+    }
+
     @Getter
     public static class StockResponse {
         private String stockId;
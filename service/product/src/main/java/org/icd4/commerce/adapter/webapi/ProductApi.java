@@ -38,6 +38,14 @@ public class ProductApi {
         return ResponseEntity.ok(productQueryService.findVariantByProductIdAndSku(productId, sku));
     }
 
+    /**
+     * 여러 (상품 ID, SKU)의 변형을 한 번에 조회합니다. 장바구니처럼 줄마다 단건 조회를 반복하던 호출을 대체합니다.
+     */
+    @PostMapping("/variants/batch")
+    public ResponseEntity<List<ProductVariantResponse>> findVariants(@Valid @RequestBody ProductVariantBatchRequest request) {
+        return ResponseEntity.ok(productQueryService.findVariants(request.items()));
+    }
+
     @PostMapping
     public ResponseEntity<ProductResponse> create(@RequestBody ProductCreateRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(productCommandService.create(request));
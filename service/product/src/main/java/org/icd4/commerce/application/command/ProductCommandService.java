@@ -1,16 +1,19 @@
 package org.icd4.commerce.application.command;
 
 import lombok.RequiredArgsConstructor;
-import org.icd4.commerce.adapter.search.SearchClient;
-import org.icd4.commerce.adapter.stock.StockClient;
 import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
 import org.icd4.commerce.adapter.webapi.dto.ProductVariantResponse;
+import org.icd4.commerce.application.outbox.ProductOutbox;
 import org.icd4.commerce.domain.product.model.Product;
 import org.icd4.commerce.domain.product.model.ProductStatus;
 import org.icd4.commerce.domain.product.request.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+/**
+ * 검색/재고 서비스로의 전파는 상품 저장과 같은 트랜잭션에서 outbox에 기록만 하고, 실제 호출은 릴레이가 커밋 이후에 합니다.
+ */
 @RequiredArgsConstructor
 @Service
 @Validated
@@ -19,24 +22,22 @@ public class ProductCommandService {
     private final ProductRegisterService productRegisterService;
     private final ProductModifierService productModifierService;
 
-    private final StockClient stockClient;
-    private final SearchClient searchClient;
+    private final ProductOutbox productOutbox;
 
+    @Transactional
     public ProductResponse create(ProductCreateRequest request) {
         Product product = productRegisterService.create(request);
 
-        // TODO 재고 벌크 등록 필요
-        product.getAllVariants().forEach(variant -> {
-            stockClient.updateStock(variant.getSku(), variant.getStockQuantity());
-        });
-        searchClient.registerProduct(product);
+        productOutbox.stocksRegistered(product);
+        productOutbox.productUpserted(product);
 
         return ProductResponse.fromDomain(product);
     }
 
+    @Transactional
     public ProductResponse changeProductInfo(String productId, String sellerId, ProductInfoUpdateRequest request) {
         Product product = productRegisterService.updateInfo(productId, sellerId, request);
-        searchClient.registerProduct(product);
+        productOutbox.productUpserted(product);
         return ProductResponse.fromDomain(product);
     }
 
@@ -59,13 +60,17 @@ public class ProductCommandService {
         return ProductResponse.fromDomain(productModifierService.activate(productId, sellerId));
     }
 
+    @Transactional
     public ProductResponse inactivate(String productId, String sellerId) {
-        searchClient.updateStatus(productId, ProductStatus.INACTIVE.name());
-        return ProductResponse.fromDomain(productModifierService.inactivate(productId, sellerId));
+        Product product = productModifierService.inactivate(productId, sellerId);
+        productOutbox.statusChanged(productId, ProductStatus.INACTIVE);
+        return ProductResponse.fromDomain(product);
     }
 
+    @Transactional
     public ProductResponse deleteProduct(String productId, String sellerId) {
-        searchClient.deleteProduct(productId);
-        return ProductResponse.fromDomain(productModifierService.deleteProduct(productId, sellerId));
+        Product product = productModifierService.deleteProduct(productId, sellerId);
+        productOutbox.productDeleted(productId);
+        return ProductResponse.fromDomain(product);
     }
 }
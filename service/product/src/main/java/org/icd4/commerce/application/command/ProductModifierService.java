@@ -1,11 +1,13 @@
 package org.icd4.commerce.application.command;
 
 import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.application.event.ProductChanged;
 import org.icd4.commerce.application.provided.ProductFinder;
 import org.icd4.commerce.application.provided.ProductModifier;
 import org.icd4.commerce.application.required.ProductRepository;
 import org.icd4.commerce.domain.product.model.Product;
 import org.icd4.commerce.domain.product.model.ProductMoney;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,13 +16,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductModifierService implements ProductModifier {
     private final ProductFinder productFinder;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public Product changeCategory(String productId, String sellerId, String categoryId) {
         Product product = productFinder.findByIdAndSellerId(productId,sellerId);
         product.changeCategory(categoryId);
-        return productRepository.save(product);
+        return saveAndPublish(product);
     }
 
     @Override
@@ -28,7 +31,7 @@ public class ProductModifierService implements ProductModifier {
     public Product activate(String productId, String sellerId) {
         Product product = productFinder.findByIdAndSellerId(productId, sellerId);
         product.activate();
-        return productRepository.save(product);
+        return saveAndPublish(product);
     }
 
     @Override
@@ -36,14 +39,15 @@ public class ProductModifierService implements ProductModifier {
     public Product inactivate(String productId, String sellerId) {
         Product product = productFinder.findByIdAndSellerId(productId, sellerId);
         product.inactivate();
-        return productRepository.save(product);
+        return saveAndPublish(product);
     }
 
     @Override
+    @Transactional
     public Product changeProductPrice(String productId, String sellerId, ProductMoney newPrice) {
         Product product = productFinder.findByIdAndSellerId(productId, sellerId);
         product.changePrice(newPrice);
-        return productRepository.save(product);
+        return saveAndPublish(product);
     }
 
     @Override
@@ -51,6 +55,12 @@ public class ProductModifierService implements ProductModifier {
     public Product deleteProduct(String productId, String sellerId) {
         Product product = productFinder.findByIdAndSellerId(productId, sellerId);
         product.delete();
-        return productRepository.save(product);
+        return saveAndPublish(product);
+    }
+
+    private Product saveAndPublish(Product product) {
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChanged(savedProduct.getId()));
+        return savedProduct;
     }
 }
@@ -1,6 +1,7 @@
 package org.icd4.commerce.application.command;
 
 import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.application.event.ProductChanged;
 import org.icd4.commerce.application.provided.ProductFinder;
 import org.icd4.commerce.application.provided.ProductRegister;
 import org.icd4.commerce.application.required.ProductRepository;
@@ -9,6 +10,7 @@ import org.icd4.commerce.domain.product.model.VariantStatus;
 import org.icd4.commerce.domain.product.request.ProductCreateRequest;
 import org.icd4.commerce.domain.product.request.ProductInfoUpdateRequest;
 import org.icd4.commerce.domain.product.request.ProductVariantUpdateRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,12 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductRegisterService implements ProductRegister {
     private final ProductFinder productFinder;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Product create(ProductCreateRequest request) {
         Product product = Product.create(request);
         Product savedProduct = productRepository.save(product);
         savedProduct.addVariants(request.variants());
+        // 없는 상품으로 캐시된 항목이 남아 있지 않도록 합니다.
+        eventPublisher.publishEvent(new ProductChanged(savedProduct.getId()));
         return savedProduct;
     }
 
@@ -31,20 +36,26 @@ public class ProductRegisterService implements ProductRegister {
     public Product updateInfo(String productId, String sellerId, ProductInfoUpdateRequest request) {
         Product product = productFinder.findByIdAndSellerId(productId, sellerId);
         product.updateInfo(request);
-        return productRepository.save(product);
+        return saveAndPublish(product);
     }
 
     @Override
     public Product updateVariant(String productId, String sellerId, String sku, ProductVariantUpdateRequest request) {
         Product product = productFinder.findProductWithVariantsByIdAndSellerId(productId, sellerId);
         product.updateVariant(sku, request);
-        return productRepository.save(product);
+        return saveAndPublish(product);
     }
 
     @Override
     public Product updateVariantStatus(String productId, String sellerId, String sku, VariantStatus status) {
         Product product = productFinder.findProductWithVariantsByIdAndSellerId(productId, sellerId);
         product.updateVariantStatus(sku, status);
-        return productRepository.save(product);
+        return saveAndPublish(product);
+    }
+
+    private Product saveAndPublish(Product product) {
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChanged(savedProduct.getId()));
+        return savedProduct;
     }
 }
@@ -0,0 +1,8 @@
+package org.icd4.commerce.application.event;
+
+/**
+ * 상품(변형 포함)이 생성, 변경, 삭제되었음을 알리는 애플리케이션 내부 이벤트.
+ * 커밋 이후 상품 캐시를 비우는 데 사용합니다.
+ */
+public record ProductChanged(String productId) {
+}
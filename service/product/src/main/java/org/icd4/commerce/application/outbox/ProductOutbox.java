@@ -0,0 +1,50 @@
+package org.icd4.commerce.application.outbox;
+
+import commerce.common.dataserializer.DataSerializer;
+import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.adapter.webapi.dto.event.ProductQueryModel;
+import org.icd4.commerce.application.required.ProductOutboxRepository;
+import org.icd4.commerce.domain.outbox.ProductOutboxEventType;
+import org.icd4.commerce.domain.outbox.ProductOutboxMessage;
+import org.icd4.commerce.domain.product.model.Product;
+import org.icd4.commerce.domain.product.model.ProductStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 변경 트랜잭션 안에서 검색/재고 서비스로 보낼 메시지를 기록합니다.
+ * 실제 전달은 {@link ProductOutboxRelay}가 커밋 이후 비동기로 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProductOutbox {
+    private final ProductOutboxRepository productOutboxRepository;
+
+    public void productUpserted(Product product) {
+        append(product.getId(), ProductOutboxEventType.SEARCH_PRODUCT_UPSERTED,
+                DataSerializer.serialize(ProductQueryModel.fromDomain(product)));
+    }
+
+    public void statusChanged(String productId, ProductStatus status) {
+        append(productId, ProductOutboxEventType.SEARCH_PRODUCT_STATUS_CHANGED, status.name());
+    }
+
+    public void productDeleted(String productId) {
+        append(productId, ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+    }
+
+    public void stocksRegistered(Product product) {
+        Map<String, Long> quantities = new LinkedHashMap<>();
+        product.getAllVariants().forEach(variant -> quantities.put(variant.getSku(), variant.getStockQuantity()));
+        append(product.getId(), ProductOutboxEventType.STOCK_REGISTERED, DataSerializer.serialize(quantities));
+    }
+
+    private void append(String productId, ProductOutboxEventType eventType, String payload) {
+        productOutboxRepository.save(ProductOutboxMessage.create(productId, eventType, payload));
+    }
+}
@@ -0,0 +1,189 @@
+package org.icd4.commerce.application.outbox;
+
+import commerce.common.dataserializer.DataSerializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.adapter.http.OutboundHttpClientConfig;
+import org.icd4.commerce.adapter.webapi.dto.event.ProductQueryModel;
+import org.icd4.commerce.application.required.ProductOutboxRepository;
+import org.icd4.commerce.application.required.ProductSearchClient;
+import org.icd4.commerce.application.required.ProductStockClient;
+import org.icd4.commerce.domain.outbox.ProductOutboxMessage;
+import org.icd4.commerce.domain.outbox.ProductOutboxStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * outbox에 쌓인 메시지를 기록된 순서대로 검색/재고 서비스에 전달합니다.
+ *
+ * <ul>
+ *     <li>한 번에 batch-size만큼 읽고, 성공한 메시지는 한 번에 삭제합니다.</li>
+ *     <li>상품별로 묶어 여러 상품을 동시에 전달하고, 한 상품의 메시지는 기록된 순서대로 하나씩 전달합니다.</li>
+ *     <li>어떤 상품의 메시지가 실패하거나 재시도 대기 중이면, 같은 상품의 이후 메시지는 이번 회차에 건너뜁니다(상품별 순서 보장).
+ *     다른 상품의 메시지는 계속 전달합니다.</li>
+ *     <li>재시도 대기 중인 메시지와 그 뒤에 막힌 같은 상품의 메시지는 조회 단계에서 제외하므로, 막힌 상품이 많아도 batch-size를 다른 상품에 씁니다.</li>
+ *     <li>실패한 메시지는 지수 백오프로 재시도하고, max-attempts를 넘기면 DEAD로 남겨 둡니다.</li>
+ * </ul>
+ * <p>여러 인스턴스가 동시에 릴레이를 돌리면 같은 메시지를 중복 전달할 수 있으므로 한 인스턴스에서만 활성화합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductOutboxRelay {
+    private final ProductOutboxRepository productOutboxRepository;
+    private final ProductSearchClient productSearchClient;
+    private final ProductStockClient productStockClient;
+    private final Executor deliveryExecutor;
+    private final Counter delivered;
+    private final Counter failed;
+
+    @Value("${product.outbox.relay.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${product.outbox.relay.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${product.outbox.relay.base-backoff:1s}")
+    private Duration baseBackoff = Duration.ofSeconds(1);
+
+    @Value("${product.outbox.relay.max-backoff:5m}")
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    public ProductOutboxRelay(ProductOutboxRepository productOutboxRepository,
+                              ProductSearchClient productSearchClient,
+                              ProductStockClient productStockClient,
+                              @Qualifier(OutboundHttpClientConfig.OUTBOUND_EXECUTOR) Executor deliveryExecutor,
+                              MeterRegistry meterRegistry) {
+        this.productOutboxRepository = productOutboxRepository;
+        this.productSearchClient = productSearchClient;
+        this.productStockClient = productStockClient;
+        this.deliveryExecutor = deliveryExecutor;
+        this.delivered = Counter.builder("product.outbox.delivered")
+                .description("검색/재고 서비스로 전달된 outbox 메시지 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("product.outbox.failed")
+                .description("전달에 실패한 outbox 메시지 수 (재시도 포함)")
+                .register(meterRegistry);
+        Gauge.builder("product.outbox.pending", productOutboxRepository,
+                        repository -> repository.countByStatus(ProductOutboxStatus.PENDING))
+                .description("전달 대기 중인 outbox 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${product.outbox.relay.interval-ms:500}")
+    public void relay() {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        List<ProductOutboxMessage> messages =
+                productOutboxRepository.findDeliverable(ProductOutboxStatus.PENDING, now, Limit.of(batchSize));
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<ProductOutboxMessage>> messagesByProduct = new LinkedHashMap<>();
+        messages.forEach(message ->
+                messagesByProduct.computeIfAbsent(message.getProductId(), productId -> new ArrayList<>()).add(message));
+
+        // 상품 사이에는 순서가 없으므로 동시에 보내고, 한 상품의 메시지는 한 작업 안에서 순서대로 보냅니다.
+        List<CompletableFuture<ProductDelivery>> deliveries = messagesByProduct.values().stream()
+                .map(productMessages -> CompletableFuture.supplyAsync(() -> deliverInOrder(productMessages, now), deliveryExecutor))
+                .toList();
+
+        List<Long> deliveredIds = new ArrayList<>();
+        List<ProductOutboxMessage> failedMessages = new ArrayList<>();
+        deliveries.forEach(future -> {
+            ProductDelivery delivery = future.join();
+            deliveredIds.addAll(delivery.deliveredIds());
+            if (delivery.failed() != null) {
+                failedMessages.add(delivery.failed());
+            }
+        });
+
+        if (!deliveredIds.isEmpty()) {
+            productOutboxRepository.deleteAllByIdInBatch(deliveredIds);
+            delivered.increment(deliveredIds.size());
+        }
+        failedMessages.forEach(message -> {
+            productOutboxRepository.save(message);
+            failed.increment();
+            if (message.getStatus() == ProductOutboxStatus.DEAD) {
+                log.error("[ProductOutboxRelay] 최대 재시도 초과로 전달을 중단합니다: id={}, productId={}, type={}",
+                        message.getId(), message.getProductId(), message.getEventType());
+            }
+        });
+    }
+
+    /**
+     * 한 상품의 메시지를 순서대로 보냅니다. 재시도 대기 중이거나 실패한 메시지를 만나면 거기서 멈춰 이후 메시지가 앞지르지 않게 합니다.
+     */
+    private ProductDelivery deliverInOrder(List<ProductOutboxMessage> messages, LocalDateTime now) {
+        List<Long> deliveredIds = new ArrayList<>();
+        for (ProductOutboxMessage message : messages) {
+            if (!message.isDue(now)) {
+                return new ProductDelivery(deliveredIds, null);
+            }
+            try {
+                deliver(message);
+                deliveredIds.add(message.getId());
+            } catch (RuntimeException e) {
+                log.warn("[ProductOutboxRelay] 전달 실패: id={}, productId={}, type={}, attempts={}",
+                        message.getId(), message.getProductId(), message.getEventType(), message.getAttempts() + 1, e);
+                message.recordFailure(e.getMessage(), now, baseBackoff, maxBackoff, maxAttempts);
+                return new ProductDelivery(deliveredIds, message);
+            }
+        }
+        return new ProductDelivery(deliveredIds, null);
+    }
+
+    private void deliver(ProductOutboxMessage message) {
+        switch (message.getEventType()) {
+            case SEARCH_PRODUCT_UPSERTED -> productSearchClient.registerProduct(
+                    read(message.getPayload(), ProductQueryModel.class));
+            case SEARCH_PRODUCT_STATUS_CHANGED -> productSearchClient.updateStatus(message.getProductId(), message.getPayload());
+            case SEARCH_PRODUCT_DELETED -> productSearchClient.deleteProduct(message.getProductId());
+            case STOCK_REGISTERED -> productStockClient.registerStocks(
+                    readQuantities(message.getPayload()), idempotencyKey(message));
+        }
+    }
+
+    /**
+     * 재시도마다 같은 키를 보내, 이전 시도가 반영되었지만 응답만 잃어버린 경우에도 중복 등록 오류 없이 성공으로 처리되게 합니다.
+     */
+    private String idempotencyKey(ProductOutboxMessage message) {
+        return "product-outbox-" + message.getId();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> readQuantities(String payload) {
+        Map<String, Number> quantities = read(payload, Map.class);
+        Map<String, Long> result = new LinkedHashMap<>();
+        quantities.forEach((sku, quantity) -> result.put(sku, quantity == null ? null : quantity.longValue()));
+        return result;
+    }
+
+    private <T> T read(String payload, Class<T> type) {
+        T value = DataSerializer.deserialize(payload, type);
+        if (value == null) {
+            throw new IllegalStateException("outbox 메시지를 읽을 수 없습니다: " + payload);
+        }
+        return value;
+    }
+
+    private record ProductDelivery(List<Long> deliveredIds, ProductOutboxMessage failed) {
+    }
+}
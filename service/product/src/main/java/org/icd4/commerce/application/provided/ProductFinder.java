@@ -2,11 +2,24 @@ package org.icd4.commerce.application.provided;
 
 import org.icd4.commerce.domain.product.model.Product;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ProductFinder {
     Product findById(String productId);
 
+    /**
+     * 변형까지 함께 읽습니다. 트랜잭션 밖(백그라운드 캐시 갱신 등)에서도 변형에 접근할 수 있습니다.
+     */
+    Product findByIdWithVariants(String productId);
+
     Product findByIdAndSellerId(String productId, String sellerId);
 
     Product findProductWithVariantsByIdAndSellerId(String productId, String sellerId);
+
+    /**
+     * 변형까지 함께 읽습니다. 존재하지 않는 상품은 결과에서 빠집니다.
+     */
+    List<Product> findAllByIdsWithVariants(Collection<String> productIds);
 }
 
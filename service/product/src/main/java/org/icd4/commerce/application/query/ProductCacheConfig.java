@@ -0,0 +1,23 @@
+package org.icd4.commerce.application.query;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 상품 조회 캐시 설정.
+ */
+@Configuration
+public class ProductCacheConfig {
+    public static final String REFRESH_EXECUTOR = "productCacheRefreshExecutor";
+
+    /**
+     * stale 구간의 캐시 항목을 백그라운드로 다시 읽는 실행기. 종료 시 진행 중인 갱신이 끝날 때까지 기다린 뒤 닫습니다.
+     */
+    @Bean(name = REFRESH_EXECUTOR, destroyMethod = "close")
+    public ExecutorService productCacheRefreshExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-cache-refresh-", 0).factory());
+    }
+}
@@ -1,29 +1,366 @@
 package org.icd4.commerce.application.query;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
 import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
+import org.icd4.commerce.application.event.ProductChanged;
 import org.icd4.commerce.application.provided.ProductFinder;
+import org.icd4.commerce.application.required.ProductCacheEntry;
+import org.icd4.commerce.application.required.ProductCacheInvalidationPublisher;
+import org.icd4.commerce.application.required.ProductCacheLookup;
 import org.icd4.commerce.application.required.ProductQueryRepository;
 import org.icd4.commerce.domain.product.model.Product;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 
-@RequiredArgsConstructor
+/**
+ * 상품 조회 캐시. 인스턴스 내 L1({@link ProductLocalCache}) → Redis L2 → DB 순으로 조회하고,
+ * 하위 단계에서 읽은 값은 상위 캐시에 채워 넣습니다.
+ *
+ * <p>인기 상품의 캐시가 만료되는 순간 동시 요청이 모두 DB로 몰리지 않도록 합니다.</p>
+ * <ul>
+ *     <li>같은 상품의 DB 조회는 인스턴스당 한 번만 실행하고, 나머지 요청은 그 결과를 기다립니다(single-flight).</li>
+ *     <li>L2 항목은 fresh 구간이 끝난 뒤에도 stale 구간 동안 남겨 두어, 이전 값을 바로 응답하면서 백그라운드로 갱신합니다.</li>
+ *     <li>fresh 구간이 끝나기 전에도 만료가 가까울수록 높은 확률로 미리 갱신해 갱신 시점을 분산시킵니다.</li>
+ * </ul>
+ * <p>존재하지 않는 상품 ID는 짧은 TTL로 L2에 기록해(negative cache), 잘못된 ID가 반복 조회되어도 DB를 거치지 않고 바로 실패시킵니다.</p>
+ */
+@Slf4j
 @Service
 public class ProductCacheService {
     private final ProductFinder productFinder;
     private final ProductQueryRepository productQueryRepository;
+    private final ProductLocalCache productLocalCache;
+    private final ProductCacheInvalidationPublisher invalidationPublisher;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final Counter negativeHits;
+    private final Counter negativeStores;
+
+    private final ConcurrentMap<String, CompletableFuture<ProductResponse>> inFlightLoads = new ConcurrentHashMap<>();
+
+    @Value("${product.cache.remote.fresh-ttl:10m}")
+    private Duration freshTtl = Duration.ofMinutes(10);
+
+    @Value("${product.cache.remote.stale-ttl:1m}")
+    private Duration staleTtl = Duration.ofMinutes(1);
+
+    @Value("${product.cache.remote.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta = 1.0;
+
+    @Value("${product.cache.remote.missing-ttl:30s}")
+    private Duration missingTtl = Duration.ofSeconds(30);
+
+    @Autowired
+    public ProductCacheService(ProductFinder productFinder,
+                               ProductQueryRepository productQueryRepository,
+                               ProductLocalCache productLocalCache,
+                               ProductCacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry,
+                               @Qualifier(ProductCacheConfig.REFRESH_EXECUTOR) Executor refreshExecutor) {
+        this(productFinder, productQueryRepository, productLocalCache, invalidationPublisher, meterRegistry,
+                refreshExecutor, Clock.systemUTC());
+    }
+
+    ProductCacheService(ProductFinder productFinder,
+                        ProductQueryRepository productQueryRepository,
+                        ProductLocalCache productLocalCache,
+                        ProductCacheInvalidationPublisher invalidationPublisher,
+                        MeterRegistry meterRegistry,
+                        Executor refreshExecutor,
+                        Clock clock) {
+        this.productFinder = productFinder;
+        this.productQueryRepository = productQueryRepository;
+        this.productLocalCache = productLocalCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.negativeHits = Counter.builder("product.cache.negative")
+                .description("없는 상품으로 기록된 ID의 조회 횟수 (DB 조회를 건너뜀)")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.negativeStores = Counter.builder("product.cache.negative")
+                .description("없는 상품으로 새로 기록한 횟수")
+                .tag("result", "stored")
+                .register(meterRegistry);
+    }
 
     public ProductResponse findByIdFromCache(String productId) {
-        return productQueryRepository.read(productId)
-                .orElseGet(() -> fetch(productId));
+        return productLocalCache.get(productId)
+                .orElseGet(() -> {
+                    // L2/DB를 읽는 동안 무효화되면 읽은 값은 L1에 올리지 않습니다.
+                    long generation = productLocalCache.generation(productId);
+                    ProductResponse response = productQueryRepository.read(productId)
+                            .map(this::refreshIfNeeded)
+                            .orElseGet(() -> loadUnlessMissing(productId));
+                    productLocalCache.put(response, generation);
+                    return response;
+                });
+    }
+
+    /**
+     * 여러 상품을 L1 → L2(MGET 한 번) → DB(IN 쿼리 한 번) 순으로 조회합니다. 존재하지 않는 상품은 결과에서 빠집니다.
+     *
+     * <p>단건 조회와 같이, 없는 상품으로 기록된 ID는 DB를 조회하지 않고, 다른 요청이 이미 읽고 있는 상품은 그 결과를 기다립니다.</p>
+     *
+     * @return 상품 ID별 상품
+     */
+    public Map<String, ProductResponse> findAllByIdsFromCache(Collection<String> productIds) {
+        Map<String, ProductResponse> found = new HashMap<>();
+        Map<String, Long> generations = new HashMap<>();
+        List<String> localMisses = new ArrayList<>();
+        for (String productId : new LinkedHashSet<>(productIds)) {
+            productLocalCache.get(productId).ifPresentOrElse(
+                    response -> found.put(productId, response),
+                    () -> {
+                        generations.put(productId, productLocalCache.generation(productId));
+                        localMisses.add(productId);
+                    });
+        }
+        if (localMisses.isEmpty()) {
+            return found;
+        }
+
+        ProductCacheLookup lookup = productQueryRepository.readAll(localMisses);
+        lookup.entries().forEach(entry -> {
+            ProductResponse response = refreshIfNeeded(entry);
+            productLocalCache.put(response, generations.get(response.productId()));
+            found.put(response.productId(), response);
+        });
+        if (!lookup.missingIds().isEmpty()) {
+            negativeHits.increment(lookup.missingIds().size());
+        }
+
+        List<String> remoteMisses = localMisses.stream()
+                .filter(productId -> !found.containsKey(productId) && !lookup.missingIds().contains(productId))
+                .toList();
+        if (!remoteMisses.isEmpty()) {
+            loadAll(remoteMisses).forEach((productId, response) -> {
+                productLocalCache.put(response, generations.get(productId));
+                found.put(productId, response);
+            });
+        }
+        return found;
+    }
+
+    /**
+     * 변경된 상품으로 L2를 갱신(이미 캐시된 경우에만)하고, 모든 인스턴스의 L1에서 제거합니다.
+     */
+    public void update(ProductResponse response) {
+        productQueryRepository.update(newEntry(response, 0L), remoteTtl());
+        invalidationPublisher.publish(response.productId());
+    }
+
+    /**
+     * L2에서 삭제하고, 모든 인스턴스의 L1에서 제거합니다. L2의 무효화 세대도 함께 올려, 삭제 전에 시작된 DB 조회가
+     * 끝난 뒤 이전 스냅샷을 다시 써넣지 못하게 합니다.
+     */
+    public void evict(String productId) {
+        productQueryRepository.delete(productId);
+        invalidationPublisher.publish(productId);
+    }
+
+    /**
+     * 상품이 변경된 트랜잭션이 커밋된 뒤 캐시를 비웁니다. 다음 조회가 커밋된 상태를 다시 읽어 채웁니다.
+     *
+     * <p>변경 시점의 스냅샷으로 덮어쓰지 않는 이유: 동시에 커밋된 두 변경의 after-commit 순서가 뒤바뀌면
+     * 이전 스냅샷이 TTL 내내 남을 수 있습니다. 비우고 다시 읽으면 항상 마지막 커밋을 반영하고, 재조회는 single-flight로 한 번만 일어납니다.</p>
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductChanged event) {
+        try {
+            evict(event.productId());
+        } catch (RuntimeException e) {
+            // 이미 커밋된 변경을 실패로 응답하지 않습니다. 남은 캐시는 fresh-ttl이 지나면 갱신됩니다.
+            log.warn("상품 캐시 무효화 실패: productId={}", event.productId(), e);
+        }
+    }
+
+    private ProductResponse refreshIfNeeded(ProductCacheEntry entry) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        if (entry.shouldRefresh(clock.millis(), earlyRefreshBeta, random)) {
+            String productId = entry.response().productId();
+            if (!inFlightLoads.containsKey(productId)) {
+                // 갱신이 끝나면 L1의 이전 값을 비우고, 그 사이 이전 값을 L1에 올리려던 조회도 건너뛰게 합니다.
+                refreshExecutor.execute(() -> load(productId)
+                        .whenComplete((response, e) -> {
+                            if (e != null) {
+                                log.warn("상품 캐시 백그라운드 갱신 실패: productId={}", productId, e);
+                            }
+                            productLocalCache.invalidate(productId);
+                        }));
+            }
+        }
+        return entry.response();
+    }
+
+    private ProductResponse loadUnlessMissing(String productId) {
+        if (productQueryRepository.isMarkedMissing(productId)) {
+            negativeHits.increment();
+            throw notFound(productId);
+        }
+        return await(load(productId));
+    }
+
+    /**
+     * 같은 상품을 이미 읽고 있다면 그 결과를 공유하고, 아니라면 현재 스레드에서 DB 조회를 실행합니다.
+     */
+    private CompletableFuture<ProductResponse> load(String productId) {
+        CompletableFuture<ProductResponse> future = new CompletableFuture<>();
+        CompletableFuture<ProductResponse> inFlight = inFlightLoads.putIfAbsent(productId, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        try {
+            future.complete(fetch(productId));
+        } catch (RuntimeException e) {
+            log.debug("상품 캐시 로딩 실패: productId={}", productId, e);
+            future.completeExceptionally(e);
+        } finally {
+            inFlightLoads.remove(productId, future);
+        }
+        return future;
+    }
+
+    /**
+     * 다른 요청이 이미 읽고 있는 상품은 그 결과를 기다리고, 나머지는 현재 스레드에서 한 번의 IN 쿼리로 읽습니다.
+     * 존재하지 않는 상품은 결과에서 빠집니다.
+     */
+    private Map<String, ProductResponse> loadAll(List<String> productIds) {
+        Map<String, CompletableFuture<ProductResponse>> owned = new LinkedHashMap<>();
+        Map<String, CompletableFuture<ProductResponse>> joined = new LinkedHashMap<>();
+        for (String productId : productIds) {
+            CompletableFuture<ProductResponse> future = new CompletableFuture<>();
+            CompletableFuture<ProductResponse> inFlight = inFlightLoads.putIfAbsent(productId, future);
+            if (inFlight == null) {
+                owned.put(productId, future);
+            } else {
+                joined.put(productId, inFlight);
+            }
+        }
+
+        Map<String, ProductResponse> loaded = new HashMap<>();
+        if (!owned.isEmpty()) {
+            try {
+                Map<String, ProductResponse> fetched = fetchAll(List.copyOf(owned.keySet()));
+                owned.forEach((productId, future) -> {
+                    ProductResponse response = fetched.get(productId);
+                    if (response != null) {
+                        future.complete(response);
+                    } else {
+                        future.completeExceptionally(notFound(productId));
+                    }
+                });
+                loaded.putAll(fetched);
+            } catch (RuntimeException e) {
+                log.debug("상품 캐시 로딩 실패: productIds={}", owned.keySet(), e);
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(inFlightLoads::remove);
+            }
+        }
+
+        joined.forEach((productId, future) -> {
+            try {
+                loaded.put(productId, await(future));
+            } catch (EntityNotFoundException e) {
+                // 먼저 읽은 요청이 없는 상품으로 확인했으므로 결과에서 뺍니다.
+            }
+        });
+        return loaded;
+    }
+
+    private ProductResponse await(CompletableFuture<ProductResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
+    /**
+     * DB에서 읽어 L2에 채웁니다. 읽기 전에 무효화 세대를 기록해 두어, 읽는 동안 {@link #evict(String)}가 일어났다면
+     * 이미 지난 스냅샷을 L2에 쓰지 않습니다(다른 인스턴스의 무효화도 Redis에서 함께 판정됩니다).
+     */
     private ProductResponse fetch(String productId) {
-        Product product = productFinder.findById(productId);
+        long generation = productQueryRepository.generation(productId);
+        long startedAt = clock.millis();
+        Product product;
+        try {
+            // 백그라운드 갱신 스레드에는 영속성 컨텍스트가 없으므로 변형까지 fetch join으로 한 번에 읽습니다.
+            product = productFinder.findByIdWithVariants(productId);
+        } catch (EntityNotFoundException e) {
+            productQueryRepository.markMissing(productId, missingTtl, generation);
+            negativeStores.increment();
+            throw e;
+        }
         ProductResponse response = ProductResponse.fromDomain(product);
-        productQueryRepository.create(response, Duration.ofMinutes(10));
+        productQueryRepository.create(newEntry(response, clock.millis() - startedAt), remoteTtl(), generation);
         return response;
     }
+
+    /**
+     * 여러 상품을 DB에서 읽어 L2에 채우고, IN 쿼리 결과에 없는 ID는 없는 상품으로 기록합니다.
+     *
+     * @return 상품 ID별 상품
+     */
+    private Map<String, ProductResponse> fetchAll(List<String> productIds) {
+        Map<String, Long> generations = productQueryRepository.generations(productIds);
+        long startedAt = clock.millis();
+        Map<String, ProductResponse> responses = new HashMap<>();
+        productFinder.findAllByIdsWithVariants(productIds).forEach(product -> {
+            ProductResponse response = ProductResponse.fromDomain(product);
+            responses.put(response.productId(), response);
+        });
+        long loadTimeMillis = (clock.millis() - startedAt) / Math.max(productIds.size(), 1);
+        productQueryRepository.createAll(
+                responses.values().stream().map(response -> newEntry(response, loadTimeMillis)).toList(),
+                remoteTtl(), generations);
+
+        List<String> missingIds = productIds.stream()
+                .filter(productId -> !responses.containsKey(productId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            productQueryRepository.markAllMissing(missingIds, missingTtl, generations);
+            negativeStores.increment(missingIds.size());
+        }
+        return responses;
+    }
+
+    private EntityNotFoundException notFound(String productId) {
+        return new EntityNotFoundException("상품을 찾을 수 없습니다. productId::" + productId);
+    }
+
+    private ProductCacheEntry newEntry(ProductResponse response, long loadTimeMillis) {
+        return new ProductCacheEntry(response, clock.millis() + freshTtl.toMillis(), loadTimeMillis);
+    }
+
+    private Duration remoteTtl() {
+        return freshTtl.plus(staleTtl);
+    }
 }
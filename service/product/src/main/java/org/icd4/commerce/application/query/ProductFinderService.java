@@ -10,6 +10,8 @@ import org.icd4.commerce.domain.product.model.Product;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -23,6 +25,11 @@ public class ProductFinderService implements ProductFinder {
         return internalFindById(productId);
     }
 
+    @Override
+    public Product findByIdWithVariants(String productId) {
+        return internalFindProductWithVariant(productId);
+    }
+
     @Override
     public Product findByIdAndSellerId(String productId, String sellerId) {
         validationParameter(productId, sellerId);
@@ -39,6 +46,11 @@ public class ProductFinderService implements ProductFinder {
         return product;
     }
 
+    @Override
+    public List<Product> findAllByIdsWithVariants(Collection<String> productIds) {
+        return productRepository.findAllByIdInWithVariants(productIds);
+    }
+
     private Product internalFindById(String productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다. productId::" + productId));
@@ -0,0 +1,122 @@
+package org.icd4.commerce.application.query;
+
+import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis(L2) 앞에 두는 인스턴스 내 상품 캐시(L1).
+ *
+ * <p>역직렬화된 {@link ProductResponse}를 그대로 보관하므로, 적중하면 네트워크 왕복과 JSON 파싱 없이 응답합니다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터, TTL이 지나면 조회 시점에 제거됩니다.
+ * 상품이 변경되면 무효화 채널({@link org.icd4.commerce.application.required.ProductCacheInvalidationPublisher})을 통해
+ * 모든 인스턴스의 L1에서 제거됩니다.</p>
+ *
+ * <p>하위 캐시나 DB를 읽기 전에 {@link #generation(String)}을 기록해 두고 {@link #put(ProductResponse, long)}으로 채우면,
+ * 읽는 동안 무효화된 상품은 L1에 올리지 않아 무효화 이전 값이 TTL 동안 남지 않습니다.</p>
+ */
+@Component
+public class ProductLocalCache {
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Map<String, Entry> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ProductLocalCache(@Value("${product.cache.local.max-size:10000}") int maxSize,
+                             @Value("${product.cache.local.ttl:30s}") Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    ProductLocalCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public Optional<ProductResponse> get(String productId) {
+        long now = nanoClock.getAsLong();
+        synchronized (entries) {
+            Entry entry = entries.get(productId);
+            if (entry != null && now - entry.cachedAt() < ttlNanos) {
+                hits.incrementAndGet();
+                return Optional.of(entry.response());
+            }
+            if (entry != null) {
+                entries.remove(productId);
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(ProductResponse response) {
+        Entry entry = new Entry(response, nanoClock.getAsLong());
+        synchronized (entries) {
+            entries.put(response.productId(), entry);
+        }
+    }
+
+    /**
+     * 기록한 세대 이후로 해당 상품이 무효화되지 않았을 때만 캐시에 올립니다.
+     */
+    public void put(ProductResponse response, long loadedGeneration) {
+        Entry entry = new Entry(response, nanoClock.getAsLong());
+        synchronized (entries) {
+            if (generations.get(stripeOf(response.productId())) == loadedGeneration) {
+                entries.put(response.productId(), entry);
+            }
+        }
+    }
+
+    /**
+     * 상품의 현재 무효화 세대. 하위 캐시나 DB를 읽기 전에 기록해 {@link #put(ProductResponse, long)}에 넘깁니다.
+     */
+    public long generation(String productId) {
+        return generations.get(stripeOf(productId));
+    }
+
+    public void invalidate(String productId) {
+        synchronized (entries) {
+            generations.incrementAndGet(stripeOf(productId));
+            entries.remove(productId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    private int stripeOf(String productId) {
+        return Math.floorMod(productId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record Entry(ProductResponse response, long cachedAt) {
+    }
+}
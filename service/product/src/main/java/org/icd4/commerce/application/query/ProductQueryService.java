@@ -3,9 +3,12 @@ package org.icd4.commerce.application.query;
 import lombok.RequiredArgsConstructor;
 import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
 import org.icd4.commerce.adapter.webapi.dto.ProductVariantResponse;
+import org.icd4.commerce.domain.product.request.ProductVariantBatchRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
@@ -29,5 +32,27 @@ public class ProductQueryService {
                 productVariantFinderService.findProductVariantByIdAndSku(productId, skuId));
     }
 
+    /**
+     * 요청한 순서대로 변형을 돌려줍니다. 상품이나 SKU가 없는 항목은 결과에서 빠집니다.
+     */
+    public List<ProductVariantResponse> findVariants(List<ProductVariantBatchRequest.Item> items) {
+        Map<String, ProductResponse> products = productCacheService.findAllByIdsFromCache(
+                items.stream().map(ProductVariantBatchRequest.Item::productId).toList());
+        return items.stream()
+                .map(item -> findVariant(products.get(item.productId()), item.sku()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private ProductVariantResponse findVariant(ProductResponse product, String sku) {
+        if (product == null) {
+            return null;
+        }
+        return product.variants().stream()
+                .filter(variant -> variant.sku().equals(sku))
+                .findFirst()
+                .orElse(null);
+    }
+
 
 }
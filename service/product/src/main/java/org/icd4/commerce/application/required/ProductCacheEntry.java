@@ -0,0 +1,26 @@
+package org.icd4.commerce.application.required;
+
+import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
+
+/**
+ * Redis(L2)에 저장되는 상품 캐시 항목.
+ *
+ * @param response       캐시된 상품
+ * @param freshUntil     이 시각(epoch millis)까지는 최신 값으로 취급합니다. 이후에는 실제 만료 전까지 이전 값을 응답하면서 백그라운드로 갱신합니다.
+ * @param loadTimeMillis DB에서 읽어 오는 데 걸린 시간. 오래 걸리는 항목일수록 만료 전에 일찍 갱신합니다.
+ */
+public record ProductCacheEntry(
+        ProductResponse response,
+        long freshUntil,
+        long loadTimeMillis
+) {
+    /**
+     * 확률적 조기 갱신(XFetch) 여부를 판단합니다. 만료가 가까울수록, 로딩 비용이 클수록 갱신할 확률이 높아지고,
+     * 만료 시각이 지났다면 항상 갱신합니다.
+     *
+     * @param random (0, 1] 범위의 난수
+     */
+    public boolean shouldRefresh(long now, double beta, double random) {
+        return now - loadTimeMillis * beta * Math.log(random) >= freshUntil;
+    }
+}
@@ -0,0 +1,8 @@
+package org.icd4.commerce.application.required;
+
+/**
+ * 상품이 변경되었을 때 모든 인스턴스의 로컬(L1) 캐시에서 해당 상품을 제거하도록 알리는 포트.
+ */
+public interface ProductCacheInvalidationPublisher {
+    void publish(String productId);
+}
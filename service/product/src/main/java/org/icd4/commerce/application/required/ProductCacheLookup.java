@@ -0,0 +1,16 @@
+package org.icd4.commerce.application.required;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 여러 상품을 L2에서 한 번에 읽은 결과.
+ *
+ * @param entries    캐시된 상품
+ * @param missingIds 없는 상품으로 기록된 ID. DB를 조회하지 않고 결과에서 뺍니다.
+ */
+public record ProductCacheLookup(
+        List<ProductCacheEntry> entries,
+        Set<String> missingIds
+) {
+}
@@ -0,0 +1,41 @@
+package org.icd4.commerce.application.required;
+
+import org.icd4.commerce.domain.outbox.ProductOutboxMessage;
+import org.icd4.commerce.domain.outbox.ProductOutboxStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductOutboxRepository extends Repository<ProductOutboxMessage, Long> {
+    ProductOutboxMessage save(ProductOutboxMessage message);
+
+    /**
+     * 지금 전달할 수 있는 메시지를 기록된 순서대로 읽습니다.
+     *
+     * <p>재시도 대기 중인 메시지와, 같은 상품에 그보다 앞선 재시도 대기 메시지가 있는 메시지(순서상 아직 보낼 수 없음)는 제외합니다.
+     * 막힌 상품의 메시지가 batch-size를 차지해 다른 상품의 전달이 밀리지 않게 하기 위함입니다.</p>
+     */
+    @Query("""
+            SELECT m FROM ProductOutboxMessage m
+            WHERE m.status = :status
+              AND m.nextAttemptAt <= :now
+              AND NOT EXISTS (
+                  SELECT p.id FROM ProductOutboxMessage p
+                  WHERE p.productId = m.productId
+                    AND p.status = :status
+                    AND p.id < m.id
+                    AND p.nextAttemptAt > :now)
+            ORDER BY m.id
+            """)
+    List<ProductOutboxMessage> findDeliverable(@Param("status") ProductOutboxStatus status,
+                                               @Param("now") LocalDateTime now,
+                                               Limit limit);
+
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+
+    long countByStatus(ProductOutboxStatus status);
+}
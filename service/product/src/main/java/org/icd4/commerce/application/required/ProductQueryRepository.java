@@ -1,16 +1,56 @@
 package org.icd4.commerce.application.required;
 
-import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
-
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductQueryRepository {
-    void create(ProductResponse response, Duration ttl);
+    /**
+     * 상품의 무효화 세대가 DB를 읽기 전에 기록한 값과 같을 때만 저장합니다.
+     * 읽는 동안 {@link #delete(String)}가 일어났다면 읽은 값은 이전 스냅샷이므로 버립니다.
+     */
+    void create(ProductCacheEntry entry, Duration ttl, long expectedGeneration);
 
-    void update(ProductResponse response);
+    void update(ProductCacheEntry entry, Duration ttl);
 
+    /**
+     * 상품의 무효화 세대를 올린 뒤 캐시된 상품과 없는 상품 기록을 삭제합니다.
+     */
     void delete(String productId);
 
-    Optional<ProductResponse> read(String productId);
+    /**
+     * 상품의 현재 무효화 세대. DB를 읽기 전에 기록해 저장 시 넘깁니다.
+     */
+    long generation(String productId);
+
+    /**
+     * 여러 상품의 현재 무효화 세대를 한 번의 왕복으로 읽습니다.
+     */
+    Map<String, Long> generations(Collection<String> productIds);
+
+    Optional<ProductCacheEntry> read(String productId);
+
+    /**
+     * 여러 상품과 없는 상품 기록을 한 번의 왕복으로 읽습니다. 캐시에 없는 상품은 결과에서 빠집니다.
+     */
+    ProductCacheLookup readAll(Collection<String> productIds);
+
+    /**
+     * 여러 상품을 한 번의 왕복으로 저장합니다. 무효화 세대가 기록한 값과 다른 상품은 건너뜁니다.
+     */
+    void createAll(Collection<ProductCacheEntry> entries, Duration ttl, Map<String, Long> expectedGenerations);
+
+    /**
+     * 존재하지 않는 상품 ID를 짧은 TTL 동안 기록해, 같은 ID의 반복 조회가 DB까지 가지 않도록 합니다.
+     * 무효화 세대가 기록한 값과 다르면(그 사이 상품이 등록되었다면) 기록하지 않습니다.
+     */
+    void markMissing(String productId, Duration ttl, long expectedGeneration);
+
+    /**
+     * 여러 상품 ID를 한 번의 왕복으로 없는 상품으로 기록합니다. 무효화 세대가 기록한 값과 다른 상품은 건너뜁니다.
+     */
+    void markAllMissing(Collection<String> productIds, Duration ttl, Map<String, Long> expectedGenerations);
+
+    boolean isMarkedMissing(String productId);
 }
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends Repository<Product, String> {
@@ -17,4 +19,7 @@ public interface ProductRepository extends Repository<Product, String> {
 
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.variants WHERE p.id = :productId")
     Optional<Product> findByIdWithVariants(@Param("productId") String productId);
+
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.variants WHERE p.id IN :productIds")
+    List<Product> findAllByIdInWithVariants(@Param("productIds") Collection<String> productIds);
 }
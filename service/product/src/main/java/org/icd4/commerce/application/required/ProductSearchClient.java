@@ -1,9 +1,12 @@
 package org.icd4.commerce.application.required;
 
-import org.icd4.commerce.domain.product.model.Product;
+import org.icd4.commerce.adapter.webapi.dto.event.ProductQueryModel;
 
+/**
+ * 검색 서비스 호출. 실패하면 예외를 던지며, 재시도는 outbox 릴레이가 담당합니다.
+ */
 public interface ProductSearchClient {
-    String registerProduct(Product product);
+    String registerProduct(ProductQueryModel product);
 
     String deleteProduct(String productId);
 
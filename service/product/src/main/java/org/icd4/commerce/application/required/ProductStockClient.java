@@ -1,5 +1,16 @@
 package org.icd4.commerce.application.required;
 
+import java.util.Map;
+
+/**
+ * 재고 서비스 호출. 실패하면 예외를 던지며, 재시도는 outbox 릴레이가 담당합니다.
+ */
 public interface ProductStockClient {
     String updateStock(String productId, Long quantity);
+
+    /**
+     * 상품의 모든 SKU 재고를 한 번의 요청으로 등록합니다.
+     * 같은 멱등 키로 다시 보내면 재고 서비스는 다시 등록하지 않고 성공으로 응답하므로, 응답을 받지 못한 요청도 안전하게 재시도할 수 있습니다.
+     */
+    String registerStocks(Map<String, Long> quantities, String idempotencyKey);
 }
@@ -0,0 +1,15 @@
+package org.icd4.commerce.domain.outbox;
+
+/**
+ * 상품 변경을 다른 서비스에 전달하는 메시지의 종류.
+ */
+public enum ProductOutboxEventType {
+    /** 검색 색인에 상품 전체를 등록(덮어쓰기) */
+    SEARCH_PRODUCT_UPSERTED,
+    /** 검색 색인의 상품 상태 변경 */
+    SEARCH_PRODUCT_STATUS_CHANGED,
+    /** 검색 색인에서 상품 삭제 */
+    SEARCH_PRODUCT_DELETED,
+    /** 재고 서비스에 변형별 초기 재고 등록 */
+    STOCK_REGISTERED
+}
@@ -0,0 +1,86 @@
+package org.icd4.commerce.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 상품 변경과 같은 트랜잭션에 기록되는 전달 대기 메시지(transactional outbox).
+ *
+ * <p>상품 저장이 커밋되면 메시지도 반드시 남고, 롤백되면 함께 사라집니다.
+ * 릴레이가 ID 순서대로 읽어 전달하므로 같은 상품의 메시지는 기록된 순서대로 전달됩니다.</p>
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_product_outbox_status_id", columnList = "status, id"),
+        @Index(name = "idx_product_outbox_product_status_id", columnList = "productId, status, id")
+})
+@Getter
+public class ProductOutboxMessage {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProductOutboxEventType eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProductOutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    protected ProductOutboxMessage() {
+    }
+
+    public static ProductOutboxMessage create(String productId, ProductOutboxEventType eventType, String payload) {
+        ProductOutboxMessage message = new ProductOutboxMessage();
+        message.productId = requireNonNull(productId, "상품 ID를 입력해주세요.");
+        message.eventType = requireNonNull(eventType, "메시지 종류를 입력해주세요.");
+        message.payload = payload;
+        message.status = ProductOutboxStatus.PENDING;
+        message.createdAt = LocalDateTime.now(ZoneOffset.UTC);
+        message.nextAttemptAt = message.createdAt;
+        return message;
+    }
+
+    public boolean isDue(LocalDateTime now) {
+        return !nextAttemptAt.isAfter(now);
+    }
+
+    /**
+     * 전달 실패를 기록합니다. 재시도 간격은 실패할 때마다 두 배로 늘어나며 maxBackoff를 넘지 않습니다.
+     * 최대 횟수를 넘기면 DEAD 상태가 되어 같은 상품의 다음 메시지를 더 이상 막지 않습니다.
+     */
+    public void recordFailure(String error, LocalDateTime now, Duration baseBackoff, Duration maxBackoff, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if (this.attempts >= maxAttempts) {
+            this.status = ProductOutboxStatus.DEAD;
+            return;
+        }
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(this.attempts - 1, 20));
+        this.nextAttemptAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+}
@@ -0,0 +1,8 @@
+package org.icd4.commerce.domain.outbox;
+
+public enum ProductOutboxStatus {
+    /** 전달 대기 (실패 후 재시도 대기 포함) */
+    PENDING,
+    /** 최대 재시도 횟수를 넘겨 더 이상 전달하지 않음. 확인 후 수동으로 처리합니다. */
+    DEAD
+}
@@ -0,0 +1,169 @@
+package org.icd4.commerce.domain.product.model;
+
+import commerce.common.dataserializer.DataSerializer;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 변형의 옵션 조합(예: color=red, size=L)을 한 번만 파싱해 두는 불변 값 객체.
+ *
+ * <p>옵션 이름 순으로 정렬된 [이름0, 값0, 이름1, 값1, ...] 배열 하나로 보관합니다.
+ * 옵션 이름과 값은 종류가 적고 수많은 변형이 같은 문자열을 공유하므로 intern 해서 중복을 없앱니다.
+ * 옵션 수가 적어 이름 조회는 배열 이진 탐색으로 충분합니다.</p>
+ */
+public final class OptionCombination {
+    public static final OptionCombination EMPTY = new OptionCombination(new String[0]);
+
+    private final String[] keysAndValues;
+
+    private OptionCombination(String[] keysAndValues) {
+        this.keysAndValues = keysAndValues;
+    }
+
+    public static OptionCombination of(Map<String, ?> options) {
+        if (options == null || options.isEmpty()) {
+            return EMPTY;
+        }
+        String[] keys = options.keySet().toArray(String[]::new);
+        Arrays.sort(keys);
+        String[] keysAndValues = new String[keys.length * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keysAndValues[i * 2] = keys[i].intern();
+            keysAndValues[i * 2 + 1] = String.valueOf(options.get(keys[i])).intern();
+        }
+        return new OptionCombination(keysAndValues);
+    }
+
+    /**
+     * JSON 객체 문자열({"color":"red"})을 파싱합니다. 비어 있으면 옵션이 없는 조합입니다.
+     */
+    public static OptionCombination parse(String json) {
+        if (json == null || json.isBlank()) {
+            return EMPTY;
+        }
+        Map<?, ?> options = DataSerializer.deserialize(json, Map.class);
+        if (options == null) {
+            throw new IllegalArgumentException("옵션 조합을 올바르게 직렬화할 수 없습니다: " + json);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, ?> typed = (Map<String, ?>) options;
+        return of(typed);
+    }
+
+    public int size() {
+        return keysAndValues.length / 2;
+    }
+
+    public boolean isEmpty() {
+        return keysAndValues.length == 0;
+    }
+
+    public String nameAt(int index) {
+        return keysAndValues[index * 2];
+    }
+
+    public String valueAt(int index) {
+        return keysAndValues[index * 2 + 1];
+    }
+
+    public String get(String name) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = nameAt(mid).compareTo(name);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return valueAt(mid);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 옵션 이름 순으로 순회합니다.
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        for (int i = 0; i < size(); i++) {
+            action.accept(nameAt(i), valueAt(i));
+        }
+    }
+
+    /**
+     * 복사 없이 배열을 그대로 보여 주는 읽기 전용 Map (옵션 이름 순).
+     */
+    public Map<String, String> asMap() {
+        return new AbstractMap<>() {
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, String>> iterator() {
+                        return new Iterator<>() {
+                            private int index;
+
+                            @Override
+                            public boolean hasNext() {
+                                return index < OptionCombination.this.size();
+                            }
+
+                            @Override
+                            public Entry<String, String> next() {
+                                if (!hasNext()) {
+                                    throw new NoSuchElementException();
+                                }
+                                Entry<String, String> entry = Map.entry(nameAt(index), valueAt(index));
+                                index++;
+                                return entry;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return OptionCombination.this.size();
+                    }
+                };
+            }
+
+            @Override
+            public String get(Object key) {
+                return key instanceof String name ? OptionCombination.this.get(name) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return get(key) != null;
+            }
+        };
+    }
+
+    public String toJson() {
+        return DataSerializer.serialize(asMap());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof OptionCombination that && Arrays.equals(keysAndValues, that.keysAndValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keysAndValues);
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+}
@@ -1,6 +1,7 @@
 package org.icd4.commerce.domain.product.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.icd4.commerce.domain.product.request.ProductCreateRequest;
 import org.icd4.commerce.domain.product.request.ProductInfoUpdateRequest;
@@ -13,7 +14,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -39,9 +39,29 @@ public class Product {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * 변형 목록은 이 클래스 안에서만 변경합니다. 밖에는 읽기 전용 뷰만 내보내 SKU 인덱스가 어긋나지 않게 합니다.
+     */
     @OneToMany(mappedBy = "productId", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @Getter(AccessLevel.NONE)
     private List<ProductVariant> variants = new ArrayList<>();
 
+    /**
+     * SKU → 변형 인덱스. 처음 조회할 때 variants로부터 만들고, 변형을 추가할 때 함께 갱신합니다.
+     * variants를 변경하는 메서드는 인덱스도 함께 갱신해야 합니다.
+     * 영속 상태가 아니므로 엔티티를 다시 읽으면 다시 만들어집니다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Map<String, ProductVariant> variantsBySku;
+
+    /**
+     * 인덱스를 만든 시점의 variants 컬렉션. 로딩이나 병합으로 컬렉션 자체가 교체되면 인덱스를 다시 만듭니다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<ProductVariant> indexedVariants;
+
     protected Product() {
     }
 
@@ -141,7 +161,7 @@ public class Product {
      */
     public ProductVariant addVariant(Map<String, String> optionCombination, ProductMoney sellingPrice, Long stockQuantity) {
         ProductVariant variant = ProductVariant.create(this.id, this.sellerId, optionCombination, sellingPrice, stockQuantity);
-        this.variants.add(variant);
+        appendVariant(variant);
         this.updatedAt = LocalDateTime.now(ZoneOffset.UTC);
         return variant;
     }
@@ -153,21 +173,27 @@ public class Product {
         if (this.id == null) {
             throw new IllegalStateException("Product ID가 필요합니다.");
         }
-        List<String> newSkus = variantRequests.stream()
-                .map(request -> ProductVariant.generateSku(this.id, request.getOptionCombinationMap()))
+        // 요청마다 옵션 JSON을 한 번만 파싱해 SKU 생성과 변형 생성에 함께 씁니다.
+        List<OptionCombination> options = variantRequests.stream()
+                .map(ProductVariantRequest::getOptions)
+                .toList();
+        List<String> newSkus = options.stream()
+                .map(option -> ProductVariant.generateSku(this.id, option))
                 .toList();
 
         validateNoDuplicateSkus(newSkus);
+        validateNoLegacyDuplicates(options);
 
-        for (ProductVariantRequest request : variantRequests) {
+        for (int i = 0; i < variantRequests.size(); i++) {
+            ProductVariantRequest request = variantRequests.get(i);
             ProductVariant variant = ProductVariant.create(
                     this.id,
                     this.sellerId,
-                    request.getOptionCombinationMap(),
+                    options.get(i),
                     request.getSellingPrice(),
                     request.stockQuantity()
             );
-            this.variants.add(variant);
+            appendVariant(variant);
         }
         this.updatedAt = LocalDateTime.now(ZoneOffset.UTC);
     }
@@ -199,10 +225,7 @@ public class Product {
 
     // ===== ProductVariant 조회 메서드들 =====
     public ProductVariant findVariantBySku(String sku) {
-        return variants.stream()
-                .filter(v -> v.getSku().equals(sku))
-                .findFirst()
-                .orElse(null);
+        return variantIndex().get(sku);
     }
 
     public List<ProductVariant> getAvailableVariants() {
@@ -211,6 +234,10 @@ public class Product {
                 .toList();
     }
 
+    public List<ProductVariant> getVariants() {
+        return Collections.unmodifiableList(variants);
+    }
+
     public List<ProductVariant> getAllVariants() {
         return Collections.unmodifiableList(variants);
     }
@@ -228,17 +255,53 @@ public class Product {
     }
 
     private void validateNoDuplicateSkus(List<String> newSkus) {
-        Set<String> existingSkus = variants.stream()
-                .map(ProductVariant::getSku)
-                .collect(Collectors.toSet());
+        Map<String, ProductVariant> existingSkus = variantIndex();
+        Set<String> requestedSkus = new HashSet<>(newSkus.size());
 
         for (String newSku : newSkus) {
-            if (existingSkus.contains(newSku)) {
+            if (existingSkus.containsKey(newSku) || !requestedSkus.add(newSku)) {
                 throw new IllegalArgumentException("중복된 SKU가 존재합니다: " + newSku);
             }
         }
     }
 
+    /**
+     * SKU 형식이 바뀌기 전에 등록된 변형과 같은 옵션 조합인지 확인합니다.
+     */
+    private void validateNoLegacyDuplicates(List<OptionCombination> options) {
+        Map<String, ProductVariant> existingSkus = variantIndex();
+        if (existingSkus.isEmpty()) {
+            return;
+        }
+        for (OptionCombination option : options) {
+            String legacySku = ProductVariant.generateLegacySku(this.id, option);
+            if (existingSkus.containsKey(legacySku)) {
+                throw new IllegalArgumentException("중복된 SKU가 존재합니다: " + legacySku);
+            }
+        }
+    }
+
+    private void appendVariant(ProductVariant variant) {
+        variantIndex().putIfAbsent(variant.getSku(), variant);
+        this.variants.add(variant);
+    }
+
+    /**
+     * 인덱스가 없거나, 인덱스를 만든 뒤 variants 컬렉션이 교체되었다면 다시 만듭니다.
+     * 크기만 비교하면 같은 수의 변형이 바뀐 경우(교체, 제거 후 추가)를 놓치므로 컬렉션 동일성으로 판단합니다.
+     */
+    private Map<String, ProductVariant> variantIndex() {
+        if (variantsBySku == null || indexedVariants != variants) {
+            Map<String, ProductVariant> index = HashMap.newHashMap(variants.size());
+            for (ProductVariant variant : variants) {
+                index.putIfAbsent(variant.getSku(), variant);
+            }
+            variantsBySku = index;
+            indexedVariants = variants;
+        }
+        return variantsBySku;
+    }
+
     private void validateVariantUpdate(ProductVariantUpdateRequest request) {
         // 검증
     }
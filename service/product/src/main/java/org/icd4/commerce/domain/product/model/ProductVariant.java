@@ -1,6 +1,5 @@
 package org.icd4.commerce.domain.product.model;
 
-import commerce.common.dataserializer.DataSerializer;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.icd4.commerce.domain.product.request.ProductVariantRequest;
@@ -8,10 +7,8 @@ import org.icd4.commerce.domain.product.request.ProductVariantUpdateRequest;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Collections;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 @Getter
 @Entity
@@ -24,6 +21,8 @@ public class ProductVariant {
 
     @Column(columnDefinition = "TEXT")
     private String optionCombination;
+    @Transient
+    private OptionCombination options;
     @Embedded
     private ProductMoney sellingPrice;
     private VariantStatus status;
@@ -40,11 +39,20 @@ public class ProductVariant {
                                         Map<String, String> optionCombination,
                                         ProductMoney sellingPrice,
                                         Long stockQuantity) {
+        return create(productId, sellerId, OptionCombination.of(optionCombination), sellingPrice, stockQuantity);
+    }
+
+    public static ProductVariant create(String productId,
+                                        String sellerId,
+                                        OptionCombination options,
+                                        ProductMoney sellingPrice,
+                                        Long stockQuantity) {
         ProductVariant variant = new ProductVariant();
-        variant.sku = generateSku(productId, optionCombination);
+        variant.sku = generateSku(productId, options);
         variant.productId = productId;
         variant.sellerId = sellerId;
-        variant.optionCombination = DataSerializer.serialize(optionCombination);
+        variant.optionCombination = options.toJson();
+        variant.options = options;
         variant.sellingPrice = sellingPrice;
         variant.status = VariantStatus.ACTIVE;
         variant.stockQuantity = stockQuantity;
@@ -54,30 +62,42 @@ public class ProductVariant {
     }
 
     public static ProductVariant create(String productId, String sellerId, ProductVariantRequest request) {
-        ProductVariant variant = new ProductVariant();
-        variant.sku = generateSku(productId, request.getOptionCombinationMap());
-        variant.productId = productId;
-        variant.sellerId = sellerId;
-        variant.optionCombination = DataSerializer.serialize(request.getOptionCombinationMap());
-        variant.sellingPrice = request.getSellingPrice();
-        variant.status = VariantStatus.ACTIVE;
-        variant.stockQuantity = request.stockQuantity();
-        variant.createdAt = LocalDateTime.now(ZoneOffset.UTC);
-        variant.updatedAt = LocalDateTime.now(ZoneOffset.UTC);
-        return variant;
+        return create(productId, sellerId, request.getOptions(), request.getSellingPrice(), request.stockQuantity());
     }
 
     public static String generateSku(String productId, Map<String, String> options) {
-        if (options == null || options.isEmpty()) {
+        return generateSku(productId, OptionCombination.of(options));
+    }
+
+    /**
+     * {@code 상품ID_16자리 16진수} 형식의 SKU를 만듭니다. 옵션이 없으면 상품 ID가 곧 SKU입니다.
+     */
+    public static String generateSku(String productId, OptionCombination options) {
+        if (options.isEmpty()) {
             return productId; // 옵션이 없는 단일 SKU
         }
+        return productId + "_" + SkuHasher.hash(options);
+    }
 
-        String optionHash = options.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> entry.getKey() + "_" + entry.getValue())
-                .collect(Collectors.joining("_"));
+    /**
+     * 이전 형식(옵션을 이어 붙인 문자열의 32비트 hashCode) SKU.
+     *
+     * <p>이미 발급된 SKU는 재고, 장바구니, 주문에서 식별자로 쓰이므로 다시 발급하지 않고 그대로 유지합니다.
+     * 대신 기존 상품에 같은 옵션 조합의 변형이 추가되지 않도록, 중복 검증에서 이 형식도 함께 확인합니다.</p>
+     */
+    public static String generateLegacySku(String productId, OptionCombination options) {
+        if (options.isEmpty()) {
+            return productId;
+        }
 
-        return productId + "_" + Integer.toHexString(optionHash.hashCode()).toUpperCase();
+        StringBuilder optionHash = new StringBuilder();
+        for (int i = 0; i < options.size(); i++) {
+            if (i > 0) {
+                optionHash.append('_');
+            }
+            optionHash.append(options.nameAt(i)).append('_').append(options.valueAt(i));
+        }
+        return productId + "_" + Integer.toHexString(optionHash.toString().hashCode()).toUpperCase();
     }
 
     public void updateInfo(ProductVariantUpdateRequest request) {
@@ -99,11 +119,21 @@ public class ProductVariant {
         return this.status == VariantStatus.ACTIVE;
     }
 
-    public Map<String, String> getOptionCombinationMap() {
-        if (this.optionCombination == null) {
-            return Collections.emptyMap();
+    /**
+     * 저장된 JSON을 처음 한 번만 파싱하고 이후에는 같은 값을 돌려줍니다.
+     */
+    public OptionCombination getOptions() {
+        if (this.options == null) {
+            this.options = OptionCombination.parse(this.optionCombination);
         }
-        return DataSerializer.deserialize(this.optionCombination, Map.class);
+        return this.options;
+    }
+
+    /**
+     * 옵션 이름 순으로 정렬된 읽기 전용 Map.
+     */
+    public Map<String, String> getOptionCombinationMap() {
+        return getOptions().asMap();
     }
 
     private <T> void updateFieldIfPresent(T field, Consumer<T> consumer) {
@@ -0,0 +1,96 @@
+package org.icd4.commerce.domain.product.model;
+
+/**
+ * 옵션 조합으로부터 SKU 접미사를 만드는 64비트 비암호화 해시.
+ *
+ * <p>MurmurHash3 x64의 블록 혼합 상수와 최종 혼합(fmix64)을 빌려 쓴 자체 함수로, 표준 MurmurHash3와 출력이 같지 않습니다.
+ * 결과가 SKU로 저장되므로 출력이 바뀌면 이미 등록된 변형과 SKU가 어긋납니다.
+ * ProductVariantSkuTest의 참조 값으로 출력을 고정하며, 알고리즘을 바꿀 때는 이전 형식 SKU처럼 별도로 다뤄야 합니다.</p>
+ *
+ * <p>옵션을 문자열로 이어 붙이지 않고, 이름 순으로 정렬된 (이름, 값)을 길이 접두사와 함께 문자 단위로 바로 흘려 넣습니다.
+ * 중간 문자열을 만들지 않으며, 길이 접두사 덕분에 "a_b"+"c"와 "a"+"b_c" 같은 경계가 다른 조합이 같은 입력이 되지 않습니다.
+ * 결과는 항상 16자리 대문자 16진수입니다.</p>
+ */
+final class SkuHasher {
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long C1 = 0x87C37B91114253D5L;
+    private static final long C2 = 0x4CF5AD432745937FL;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private long hash = SEED;
+    private long block;
+    private int charsInBlock;
+    private long length;
+
+    private SkuHasher() {
+    }
+
+    static String hash(OptionCombination options) {
+        SkuHasher hasher = new SkuHasher();
+        hasher.putInt(options.size());
+        for (int i = 0; i < options.size(); i++) {
+            hasher.putString(options.nameAt(i));
+            hasher.putString(options.valueAt(i));
+        }
+        return toHex(hasher.finish());
+    }
+
+    private void putString(String value) {
+        putInt(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            putChar(value.charAt(i));
+        }
+    }
+
+    private void putInt(int value) {
+        putChar((char) (value >>> 16));
+        putChar((char) value);
+    }
+
+    private void putChar(char c) {
+        block |= (long) c << (charsInBlock * 16);
+        length++;
+        if (++charsInBlock == 4) {
+            mix(block);
+            block = 0;
+            charsInBlock = 0;
+        }
+    }
+
+    private void mix(long k) {
+        hash ^= scramble(k);
+        hash = Long.rotateLeft(hash, 27) * 5 + 0x52DCE729;
+    }
+
+    private long finish() {
+        if (charsInBlock > 0) {
+            hash ^= scramble(block);
+        }
+        hash ^= length;
+        return fmix64(hash);
+    }
+
+    private static long scramble(long k) {
+        k *= C1;
+        k = Long.rotateLeft(k, 31);
+        return k * C2;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    private static String toHex(long value) {
+        char[] chars = new char[16];
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,21 @@
+package org.icd4.commerce.domain.product.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 여러 (상품 ID, SKU)의 변형을 한 번에 조회하는 요청. 장바구니 한 개의 상품 수 정도를 상한으로 둡니다.
+ */
+public record ProductVariantBatchRequest(
+        @NotEmpty @Size(max = 100) List<@Valid Item> items
+) {
+    public record Item(
+            @NotBlank String productId,
+            @NotBlank String sku
+    ) {
+    }
+}
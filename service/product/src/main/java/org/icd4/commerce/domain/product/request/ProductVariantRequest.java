@@ -1,6 +1,7 @@
 package org.icd4.commerce.domain.product.request;
 
 import commerce.common.dataserializer.DataSerializer;
+import org.icd4.commerce.domain.product.model.OptionCombination;
 import org.icd4.commerce.domain.product.model.ProductMoney;
 
 import java.math.BigDecimal;
@@ -25,6 +26,13 @@ public record ProductVariantRequest(
         }
     }
 
+    /**
+     * 옵션 조합을 파싱합니다. 호출할 때마다 파싱하므로 한 요청에서 여러 번 쓸 값은 받아서 재사용하세요.
+     */
+    public OptionCombination getOptions() {
+        return OptionCombination.parse(optionCombination);
+    }
+
     public ProductMoney getSellingPrice() {
         return ProductMoney.of(price, currency);
     }
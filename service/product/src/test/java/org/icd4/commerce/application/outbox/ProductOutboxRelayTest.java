@@ -0,0 +1,202 @@
+package org.icd4.commerce.application.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.icd4.commerce.adapter.webapi.dto.event.ProductQueryModel;
+import org.icd4.commerce.application.required.ProductOutboxRepository;
+import org.icd4.commerce.application.required.ProductSearchClient;
+import org.icd4.commerce.application.required.ProductStockClient;
+import org.icd4.commerce.domain.outbox.ProductOutboxEventType;
+import org.icd4.commerce.domain.outbox.ProductOutboxMessage;
+import org.icd4.commerce.domain.outbox.ProductOutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductOutboxRelayTest {
+
+    @Mock
+    private ProductOutboxRepository productOutboxRepository;
+
+    @Mock
+    private ProductSearchClient productSearchClient;
+
+    @Mock
+    private ProductStockClient productStockClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductOutboxRelay productOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productOutboxRelay = new ProductOutboxRelay(
+                productOutboxRepository, productSearchClient, productStockClient, Runnable::run, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("기록된 순서대로 전달하고, 전달한 메시지는 한 번에 삭제한다")
+    void deliversInOrder() {
+        // Given
+        ProductOutboxMessage stock = message(1L, "product-1", ProductOutboxEventType.STOCK_REGISTERED, "{\"SKU-1\":10}");
+        ProductOutboxMessage status = message(2L, "product-1", ProductOutboxEventType.SEARCH_PRODUCT_STATUS_CHANGED, "INACTIVE");
+        ProductOutboxMessage deleted = message(3L, "product-2", ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+        givenPending(stock, status, deleted);
+
+        // When
+        productOutboxRelay.relay();
+
+        // Then
+        InOrder inOrder = inOrder(productStockClient, productSearchClient);
+        inOrder.verify(productStockClient).registerStocks(Map.of("SKU-1", 10L), "product-outbox-1");
+        inOrder.verify(productSearchClient).updateStatus("product-1", "INACTIVE");
+        inOrder.verify(productSearchClient).deleteProduct("product-2");
+        verify(productOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        assertThat(meterRegistry.get("product.outbox.delivered").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전달에 실패하면 같은 상품의 이후 메시지는 건너뛰고 다른 상품은 계속 전달한다")
+    void blocksSameProductAfterFailure() {
+        // Given
+        ProductOutboxMessage failing = message(1L, "product-1", ProductOutboxEventType.SEARCH_PRODUCT_UPSERTED, "{\"productId\":\"product-1\"}");
+        ProductOutboxMessage blocked = message(2L, "product-1", ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+        ProductOutboxMessage other = message(3L, "product-2", ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+        givenPending(failing, blocked, other);
+        when(productSearchClient.registerProduct(any(ProductQueryModel.class)))
+                .thenThrow(new ResourceAccessException("connection refused"));
+
+        // When
+        productOutboxRelay.relay();
+
+        // Then
+        verify(productSearchClient, never()).deleteProduct("product-1");
+        verify(productSearchClient).deleteProduct("product-2");
+        verify(productOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(productOutboxRepository).save(failing);
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(failing.getStatus()).isEqualTo(ProductOutboxStatus.PENDING);
+        assertThat(failing.getLastError()).isEqualTo("connection refused");
+    }
+
+    @Test
+    @DisplayName("재고 등록이 반영된 뒤 응답을 잃어버려도, 재시도는 같은 멱등 키로 보내 성공 처리된다")
+    void retriesStockRegistrationWithSameIdempotencyKey() {
+        // Given: 첫 시도는 재고 서비스에 반영되었지만 응답 대기 중 타임아웃
+        ProductOutboxMessage stock = message(1L, "product-1", ProductOutboxEventType.STOCK_REGISTERED, "{\"SKU-1\":10}");
+        givenPending(stock);
+        when(productStockClient.registerStocks(Map.of("SKU-1", 10L), "product-outbox-1"))
+                .thenThrow(new ResourceAccessException("read timed out"))
+                .thenReturn("ok");
+
+        // When
+        productOutboxRelay.relay();
+        ReflectionTestUtils.setField(stock, "nextAttemptAt", stock.getCreatedAt().minusSeconds(1));
+        productOutboxRelay.relay();
+
+        // Then
+        verify(productStockClient, times(2)).registerStocks(Map.of("SKU-1", 10L), "product-outbox-1");
+        verify(productOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        assertThat(stock.getStatus()).isEqualTo(ProductOutboxStatus.PENDING);
+        assertThat(stock.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 상품의 메시지는 동시에 전달한다")
+    void deliversProductsConcurrently() throws Exception {
+        // Given
+        ProductOutboxMessage first = message(1L, "product-1", ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+        ProductOutboxMessage second = message(2L, "product-2", ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+        givenPending(first, second);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(productSearchClient.deleteProduct(anyString())).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            // 한 상품씩 차례로 보낸다면 두 번째 호출이 시작되지 않아 기다림이 끝나지 않습니다.
+            return bothStarted.await(5, TimeUnit.SECONDS) ? "ok" : null;
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ProductOutboxRelay concurrentRelay = new ProductOutboxRelay(
+                    productOutboxRepository, productSearchClient, productStockClient, executor, meterRegistry);
+
+            // When
+            concurrentRelay.relay();
+        }
+
+        // Then
+        assertThat(bothStarted.getCount()).isZero();
+        verify(productOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("재시도 대기 중인 메시지가 있으면 같은 상품의 이후 메시지도 전달하지 않는다")
+    void waitsForBackoff() {
+        // Given
+        ProductOutboxMessage waiting = message(1L, "product-1", ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+        ReflectionTestUtils.setField(waiting, "nextAttemptAt", waiting.getCreatedAt().plusMinutes(1));
+        ProductOutboxMessage next = message(2L, "product-1", ProductOutboxEventType.SEARCH_PRODUCT_STATUS_CHANGED, "INACTIVE");
+        givenPending(waiting, next);
+
+        // When
+        productOutboxRelay.relay();
+
+        // Then
+        verify(productSearchClient, never()).deleteProduct(anyString());
+        verify(productSearchClient, never()).updateStatus(anyString(), anyString());
+        verify(productOutboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수만큼 실패하면 DEAD 상태로 남긴다")
+    void marksDeadAfterMaxAttempts() {
+        // Given
+        ProductOutboxMessage message = message(1L, "product-1", ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+        ReflectionTestUtils.setField(message, "attempts", 9);
+        givenPending(message);
+        when(productSearchClient.deleteProduct("product-1")).thenThrow(new ResourceAccessException("timeout"));
+
+        // When
+        productOutboxRelay.relay();
+
+        // Then
+        assertThat(message.getStatus()).isEqualTo(ProductOutboxStatus.DEAD);
+        verify(productOutboxRepository).save(message);
+        assertThat(meterRegistry.get("product.outbox.failed").counter().count()).isEqualTo(1);
+    }
+
+    private void givenPending(ProductOutboxMessage... messages) {
+        when(productOutboxRepository.findDeliverable(eq(ProductOutboxStatus.PENDING), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(messages));
+    }
+
+    private ProductOutboxMessage message(Long id, String productId, ProductOutboxEventType eventType, String payload) {
+        ProductOutboxMessage message = ProductOutboxMessage.create(productId, eventType, payload);
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+}
@@ -2,6 +2,7 @@ package org.icd4.commerce.application.provided;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import org.icd4.commerce.application.event.ProductChanged;
 import org.icd4.commerce.domain.product.model.Product;
 import org.icd4.commerce.domain.product.model.ProductMoney;
 import org.icd4.commerce.domain.product.request.ProductCreateRequest;
@@ -9,6 +10,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -21,6 +24,7 @@ import static org.icd4.commerce.domain.product.model.ProductStatus.INACTIVE;
 
 @SpringBootTest
 @Transactional
+@RecordApplicationEvents
 class ProductModifierTest {
     ProductModifier productModifier;
     EntityManager entityManager;
@@ -62,6 +66,17 @@ class ProductModifierTest {
         assertThat(product.getCategoryId()).isEqualTo("0002");
     }
 
+    @Test
+    @DisplayName("상품을 변경하면 캐시를 비우기 위한 변경 이벤트가 발행된다")
+    void publishProductChanged(ApplicationEvents events) {
+        productModifier.changeCategory(TEST_PRODUCT.getId(), SELLER_ID, "0002");
+        productModifier.inactivate(TEST_PRODUCT.getId(), SELLER_ID);
+
+        assertThat(events.stream(ProductChanged.class))
+                .extracting(ProductChanged::productId)
+                .containsExactly(TEST_PRODUCT.getId(), TEST_PRODUCT.getId());
+    }
+
     @Test
     void changeCategoryFail() {
         assertThatThrownBy(() -> productModifier.changeCategory("invalid-productId", SELLER_ID, "0002"))
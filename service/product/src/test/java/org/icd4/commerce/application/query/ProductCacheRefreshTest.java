@@ -0,0 +1,80 @@
+package org.icd4.commerce.application.query;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
+import org.icd4.commerce.application.provided.ProductFinder;
+import org.icd4.commerce.application.required.ProductCacheEntry;
+import org.icd4.commerce.application.required.ProductCacheInvalidationPublisher;
+import org.icd4.commerce.application.required.ProductQueryRepository;
+import org.icd4.commerce.application.required.ProductRepository;
+import org.icd4.commerce.domain.ProductFixture;
+import org.icd4.commerce.domain.product.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 백그라운드 갱신은 요청 스레드의 영속성 컨텍스트 밖에서 실행되므로, 실제 JPA 조회로 변형까지 읽히는지 확인합니다.
+ */
+@SpringBootTest
+class ProductCacheRefreshTest {
+    private static final Instant NOW = Instant.parse("2025-07-01T00:00:00Z");
+
+    @Autowired
+    private ProductFinder productFinder;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("fresh 구간이 지난 항목은 백그라운드 스레드에서 변형까지 다시 읽어 L2를 갱신한다")
+    void refreshesOutsideRequestTransaction() {
+        // Given
+        Product saved = transactionTemplate.execute(status -> {
+            Product product = productRepository.save(ProductFixture.createProduct());
+            product.addVariants(ProductFixture.createProductRequest().variants());
+            return product;
+        });
+        String productId = saved.getId();
+        ProductQueryRepository productQueryRepository = mock(ProductQueryRepository.class);
+        ProductResponse stale = ProductResponse.fromDomain(ProductFixture.createProduct(productId));
+        when(productQueryRepository.read(productId))
+                .thenReturn(Optional.of(new ProductCacheEntry(stale, NOW.toEpochMilli() - 1, 10L)));
+
+        // When
+        try (ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ProductCacheService productCacheService = new ProductCacheService(
+                    productFinder, productQueryRepository, new ProductLocalCache(100, Duration.ofSeconds(30)),
+                    mock(ProductCacheInvalidationPublisher.class), new SimpleMeterRegistry(),
+                    refreshExecutor, Clock.fixed(NOW, ZoneOffset.UTC));
+            productCacheService.findByIdFromCache(productId);
+        }
+
+        // Then
+        ArgumentCaptor<ProductCacheEntry> refreshed = ArgumentCaptor.forClass(ProductCacheEntry.class);
+        verify(productQueryRepository).create(refreshed.capture(), any(Duration.class), anyLong());
+        assertThat(refreshed.getValue().response().productId()).isEqualTo(productId);
+        assertThat(refreshed.getValue().response().variants()).hasSize(2);
+    }
+}
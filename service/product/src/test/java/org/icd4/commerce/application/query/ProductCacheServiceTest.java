@@ -0,0 +1,368 @@
+package org.icd4.commerce.application.query;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
+import org.icd4.commerce.application.event.ProductChanged;
+import org.icd4.commerce.application.provided.ProductFinder;
+import org.icd4.commerce.application.required.ProductCacheEntry;
+import org.icd4.commerce.application.required.ProductCacheInvalidationPublisher;
+import org.icd4.commerce.application.required.ProductCacheLookup;
+import org.icd4.commerce.application.required.ProductQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.icd4.commerce.domain.ProductFixture.createProduct;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheServiceTest {
+    private static final Instant NOW = Instant.parse("2025-07-01T00:00:00Z");
+
+    @Mock
+    private ProductFinder productFinder;
+
+    @Mock
+    private ProductQueryRepository productQueryRepository;
+
+    @Mock
+    private ProductCacheInvalidationPublisher invalidationPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductLocalCache productLocalCache;
+    private ProductCacheService productCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productLocalCache = new ProductLocalCache(100, Duration.ofSeconds(30));
+        productCacheService = new ProductCacheService(
+                productFinder, productQueryRepository, productLocalCache, invalidationPublisher, meterRegistry,
+                Runnable::run, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("L2에서 읽은 상품은 L1에 채워져 다음 조회 시 Redis를 거치지 않는다")
+    void populatesLocalCacheFromRemote() {
+        // Given
+        String productId = "productId";
+        ProductResponse cached = ProductResponse.fromDomain(createProduct(productId));
+        when(productQueryRepository.read(productId)).thenReturn(Optional.of(freshEntry(cached)));
+
+        // When
+        productCacheService.findByIdFromCache(productId);
+        ProductResponse response = productCacheService.findByIdFromCache(productId);
+
+        // Then
+        assertThat(response).isEqualTo(cached);
+        verify(productQueryRepository, times(1)).read(productId);
+        verify(productFinder, never()).findByIdWithVariants(productId);
+    }
+
+    @Test
+    @DisplayName("L1, L2 모두 없으면 DB에서 읽어 두 캐시를 채운다")
+    void fetchesFromDatabaseOnMiss() {
+        // Given
+        String productId = "productId";
+        when(productQueryRepository.read(productId)).thenReturn(Optional.empty());
+        when(productFinder.findByIdWithVariants(productId)).thenReturn(createProduct(productId));
+
+        // When
+        ProductResponse response = productCacheService.findByIdFromCache(productId);
+
+        // Then
+        assertThat(response.productId()).isEqualTo(productId);
+        verify(productQueryRepository).create(any(ProductCacheEntry.class), any(Duration.class), anyLong());
+        assertThat(productLocalCache.get(productId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("L2를 읽는 동안 무효화된 상품은 L1에 올리지 않는다")
+    void skipsLocalPutWhenInvalidatedDuringRead() {
+        // Given
+        String productId = "productId";
+        ProductResponse cached = ProductResponse.fromDomain(createProduct(productId));
+        when(productQueryRepository.read(productId)).thenAnswer(invocation -> {
+            productLocalCache.invalidate(productId);
+            return Optional.of(freshEntry(cached));
+        });
+
+        // When
+        ProductResponse response = productCacheService.findByIdFromCache(productId);
+
+        // Then
+        assertThat(response).isEqualTo(cached);
+        assertThat(productLocalCache.get(productId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB를 읽기 전에 기록한 무효화 세대를 넘겨 L2에 저장한다")
+    void createsWithGenerationRecordedBeforeRead() {
+        // Given
+        String productId = "productId";
+        when(productQueryRepository.read(productId)).thenReturn(Optional.empty());
+        when(productQueryRepository.generation(productId)).thenReturn(3L);
+        when(productFinder.findByIdWithVariants(productId)).thenReturn(createProduct(productId));
+
+        // When
+        productCacheService.findByIdFromCache(productId);
+
+        // Then
+        InOrder inOrder = inOrder(productQueryRepository, productFinder);
+        inOrder.verify(productQueryRepository).generation(productId);
+        inOrder.verify(productFinder).findByIdWithVariants(productId);
+        inOrder.verify(productQueryRepository).create(any(ProductCacheEntry.class), any(Duration.class), eq(3L));
+    }
+
+    @Test
+    @DisplayName("fresh 구간이 지난 항목은 이전 값을 바로 응답하고 DB에서 다시 읽어 L2를 갱신한다")
+    void servesStaleWhileRevalidating() {
+        // Given
+        String productId = "productId";
+        ProductResponse stale = ProductResponse.fromDomain(createProduct(productId));
+        ProductCacheEntry expired = new ProductCacheEntry(stale, NOW.toEpochMilli() - 1, 10L);
+        when(productQueryRepository.read(productId)).thenReturn(Optional.of(expired));
+        when(productFinder.findByIdWithVariants(productId)).thenReturn(createProduct(productId));
+
+        // When
+        ProductResponse response = productCacheService.findByIdFromCache(productId);
+
+        // Then
+        assertThat(response).isSameAs(stale);
+        verify(productFinder).findByIdWithVariants(productId);
+        verify(productQueryRepository).create(any(ProductCacheEntry.class), any(Duration.class), anyLong());
+        assertThat(productLocalCache.get(productId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 상품의 캐시 미스가 동시에 몰려도 DB 조회는 한 번만 실행된다")
+    void coalescesConcurrentMisses() throws Exception {
+        // Given
+        String productId = "productId";
+        int threadCount = 16;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger dbCalls = new AtomicInteger();
+        when(productQueryRepository.read(productId)).thenReturn(Optional.empty());
+        when(productFinder.findByIdWithVariants(productId)).thenAnswer(invocation -> {
+            dbCalls.incrementAndGet();
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return createProduct(productId);
+        });
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<ProductResponse>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> productCacheService.findByIdFromCache(productId)));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < threadCount; i++) {
+                results.add(executor.submit(() -> productCacheService.findByIdFromCache(productId)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<ProductResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).productId()).isEqualTo(productId);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(dbCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("여러 상품을 조회하면 L1, L2에 없는 상품만 한 번의 IN 쿼리로 읽어 캐시에 채운다")
+    void findAllByIds() {
+        // Given
+        ProductResponse local = ProductResponse.fromDomain(createProduct("local"));
+        ProductResponse remote = ProductResponse.fromDomain(createProduct("remote"));
+        productLocalCache.put(local);
+        when(productQueryRepository.readAll(List.of("remote", "db", "unknown")))
+                .thenReturn(new ProductCacheLookup(List.of(freshEntry(remote)), Set.of()));
+        when(productFinder.findAllByIdsWithVariants(List.of("db", "unknown")))
+                .thenReturn(List.of(createProduct("db")));
+
+        // When
+        Map<String, ProductResponse> found = productCacheService.findAllByIdsFromCache(
+                List.of("local", "remote", "db", "unknown", "local"));
+
+        // Then
+        assertThat(found).containsOnlyKeys("local", "remote", "db");
+        verify(productQueryRepository).createAll(anyCollection(), any(Duration.class), anyMap());
+        verify(productQueryRepository).markAllMissing(eq(List.of("unknown")), any(Duration.class), anyMap());
+        assertThat(productLocalCache.get("db")).isPresent();
+    }
+
+    @Test
+    @DisplayName("여러 상품을 조회할 때도 없는 상품으로 기록된 ID는 DB를 조회하지 않는다")
+    void findAllByIdsSkipsMarkedMissing() {
+        // Given
+        ProductResponse remote = ProductResponse.fromDomain(createProduct("remote"));
+        when(productQueryRepository.readAll(List.of("remote", "unknown")))
+                .thenReturn(new ProductCacheLookup(List.of(freshEntry(remote)), Set.of("unknown")));
+
+        // When
+        Map<String, ProductResponse> found = productCacheService.findAllByIdsFromCache(List.of("remote", "unknown"));
+
+        // Then
+        assertThat(found).containsOnlyKeys("remote");
+        verify(productFinder, never()).findAllByIdsWithVariants(anyCollection());
+        assertThat(meterRegistry.get("product.cache.negative").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 이미 DB에서 읽고 있는 상품은 IN 쿼리에서 빼고 그 결과를 기다린다")
+    void findAllByIdsJoinsInFlightLoads() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productQueryRepository.read("db")).thenReturn(Optional.empty());
+        when(productFinder.findByIdWithVariants("db")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return createProduct("db");
+        });
+        when(productQueryRepository.readAll(List.of("db", "other")))
+                .thenReturn(new ProductCacheLookup(List.of(), Set.of()));
+        when(productFinder.findAllByIdsWithVariants(List.of("other")))
+                .thenReturn(List.of(createProduct("other")));
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ProductResponse> single = executor.submit(() -> productCacheService.findByIdFromCache("db"));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<Map<String, ProductResponse>> batch = executor.submit(
+                    () -> productCacheService.findAllByIdsFromCache(List.of("db", "other")));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThat(batch.get(5, TimeUnit.SECONDS)).containsOnlyKeys("db", "other");
+            assertThat(single.get(5, TimeUnit.SECONDS).productId()).isEqualTo("db");
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(productFinder).findByIdWithVariants("db");
+        verify(productFinder).findAllByIdsWithVariants(List.of("other"));
+    }
+
+    @Test
+    @DisplayName("없는 상품 ID를 조회하면 짧은 TTL로 기록하고 예외를 던진다")
+    void marksMissingProduct() {
+        // Given
+        String productId = "unknown";
+        when(productQueryRepository.read(productId)).thenReturn(Optional.empty());
+        when(productFinder.findByIdWithVariants(productId)).thenThrow(new EntityNotFoundException("not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> productCacheService.findByIdFromCache(productId))
+                .isInstanceOf(EntityNotFoundException.class);
+        verify(productQueryRepository).markMissing(eq(productId), any(Duration.class), anyLong());
+        assertThat(meterRegistry.get("product.cache.negative").tag("result", "stored").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 상품으로 기록된 ID는 DB를 조회하지 않고 바로 실패한다")
+    void skipsDatabaseForMarkedMissing() {
+        // Given
+        String productId = "unknown";
+        when(productQueryRepository.read(productId)).thenReturn(Optional.empty());
+        when(productQueryRepository.isMarkedMissing(productId)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> productCacheService.findByIdFromCache(productId))
+                .isInstanceOf(EntityNotFoundException.class);
+        verify(productFinder, never()).findByIdWithVariants(productId);
+        assertThat(meterRegistry.get("product.cache.negative").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료까지 충분히 남았고 로딩 비용이 작으면 조기 갱신하지 않는다")
+    void shouldRefresh() {
+        // Given
+        ProductResponse response = ProductResponse.fromDomain(createProduct("productId"));
+        ProductCacheEntry entry = new ProductCacheEntry(response, NOW.toEpochMilli() + 60_000, 10L);
+
+        // When & Then
+        assertThat(entry.shouldRefresh(NOW.toEpochMilli(), 1.0, 0.5)).isFalse();
+        assertThat(entry.shouldRefresh(NOW.toEpochMilli() + 60_000, 1.0, 0.5)).isTrue();
+        assertThat(entry.shouldRefresh(NOW.toEpochMilli() + 59_995, 1.0, 0.01)).isTrue();
+    }
+
+    @Test
+    @DisplayName("상품을 제거하면 L2에서 삭제하고 무효화 메시지를 발행한다")
+    void evict() {
+        // Given
+        String productId = "productId";
+
+        // When
+        productCacheService.evict(productId);
+
+        // Then
+        verify(productQueryRepository).delete(productId);
+        verify(invalidationPublisher).publish(productId);
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트를 받으면 L1에 캐시된 상품도 함께 제거된다")
+    void evictOnProductChanged() {
+        // Given
+        String productId = "productId";
+        productLocalCache.put(ProductResponse.fromDomain(createProduct(productId)));
+        doAnswer(invocation -> {
+            productLocalCache.invalidate(invocation.getArgument(0));
+            return null;
+        }).when(invalidationPublisher).publish(productId);
+
+        // When
+        productCacheService.on(new ProductChanged(productId));
+
+        // Then
+        verify(productQueryRepository).delete(productId);
+        assertThat(productLocalCache.get(productId)).isEmpty();
+    }
+
+    private ProductCacheEntry freshEntry(ProductResponse response) {
+        return new ProductCacheEntry(response, NOW.toEpochMilli() + Duration.ofMinutes(10).toMillis(), 10L);
+    }
+}
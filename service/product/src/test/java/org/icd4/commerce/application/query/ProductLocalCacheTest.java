@@ -0,0 +1,84 @@
+package org.icd4.commerce.application.query;
+
+import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.icd4.commerce.domain.ProductFixture.createProduct;
+
+class ProductLocalCacheTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않는다")
+    void expiresAfterTtl() {
+        // Given
+        ProductLocalCache cache = new ProductLocalCache(10, Duration.ofSeconds(30), nanoTime::get);
+        cache.put(response("p1"));
+
+        // When & Then
+        nanoTime.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThat(cache.get("p1")).isPresent();
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get("p1")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거된다")
+    void evictsLeastRecentlyUsed() {
+        // Given
+        ProductLocalCache cache = new ProductLocalCache(2, Duration.ofSeconds(30), nanoTime::get);
+        cache.put(response("p1"));
+        cache.put(response("p2"));
+        cache.get("p1");
+
+        // When
+        cache.put(response("p3"));
+
+        // Then
+        assertThat(cache.get("p2")).isEmpty();
+        assertThat(cache.get("p1")).isPresent();
+        assertThat(cache.get("p3")).isPresent();
+    }
+
+    @Test
+    @DisplayName("무효화된 항목은 조회되지 않는다")
+    void invalidate() {
+        // Given
+        ProductLocalCache cache = new ProductLocalCache(10, Duration.ofSeconds(30), nanoTime::get);
+        cache.put(response("p1"));
+
+        // When
+        cache.invalidate("p1");
+
+        // Then
+        assertThat(cache.get("p1")).isEmpty();
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("세대를 기록한 뒤 무효화된 상품은 캐시에 올리지 않는다")
+    void skipsPutAfterInvalidation() {
+        // Given
+        ProductLocalCache cache = new ProductLocalCache(10, Duration.ofSeconds(30), nanoTime::get);
+        long staleGeneration = cache.generation("p1");
+        cache.invalidate("p1");
+
+        // When
+        cache.put(response("p1"), staleGeneration);
+        cache.put(response("p2"), cache.generation("p2"));
+
+        // Then
+        assertThat(cache.get("p1")).isEmpty();
+        assertThat(cache.get("p2")).isPresent();
+    }
+
+    private ProductResponse response(String productId) {
+        return ProductResponse.fromDomain(createProduct(productId));
+    }
+}
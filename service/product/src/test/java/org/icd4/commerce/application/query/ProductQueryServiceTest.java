@@ -4,6 +4,7 @@ import org.icd4.commerce.adapter.webapi.dto.ProductResponse;
 import org.icd4.commerce.adapter.webapi.dto.ProductVariantResponse;
 import org.icd4.commerce.domain.product.model.Product;
 import org.icd4.commerce.domain.product.model.ProductVariant;
+import org.icd4.commerce.domain.product.request.ProductVariantBatchRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.icd4.commerce.domain.ProductFixture.*;
@@ -67,6 +69,27 @@ class ProductQueryServiceTest {
         verify(productFinderService).findById(productId);
     }
 
+    @Test
+    @DisplayName("여러 (상품 ID, SKU)를 조회하면 요청 순서대로, 없는 항목은 빼고 돌려준다")
+    void findVariants() {
+        // Given
+        ProductResponse product = ProductResponse.fromDomain(createProductWithVariant("productId"));
+        String firstSku = product.variants().get(0).sku();
+        String secondSku = product.variants().get(1).sku();
+        when(productCacheService.findAllByIdsFromCache(List.of("productId", "productId", "productId", "unknown")))
+                .thenReturn(Map.of("productId", product));
+
+        // When
+        List<ProductVariantResponse> responses = productQueryService.findVariants(List.of(
+                new ProductVariantBatchRequest.Item("productId", secondSku),
+                new ProductVariantBatchRequest.Item("productId", "unknown-sku"),
+                new ProductVariantBatchRequest.Item("productId", firstSku),
+                new ProductVariantBatchRequest.Item("unknown", firstSku)));
+
+        // Then
+        assertThat(responses).extracting(ProductVariantResponse::sku).containsExactly(secondSku, firstSku);
+    }
+
     @Test
     @DisplayName("상품ID와 SKU로 변형 조회하면 적절한 서비스 메서드가 호출되어야 한다")
     void findVariantByProductIdAndSku() {
@@ -0,0 +1,54 @@
+package org.icd4.commerce.application.required;
+
+import jakarta.persistence.EntityManager;
+import org.icd4.commerce.domain.outbox.ProductOutboxEventType;
+import org.icd4.commerce.domain.outbox.ProductOutboxMessage;
+import org.icd4.commerce.domain.outbox.ProductOutboxStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ProductOutboxRepositoryTest {
+    @Autowired
+    ProductOutboxRepository productOutboxRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    @DisplayName("재시도 대기 중인 메시지와 그 뒤의 같은 상품 메시지는 건너뛰고 다른 상품의 메시지를 읽는다")
+    void findDeliverable() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC).plusSeconds(1);
+        var waiting = save("product-1", now.plusMinutes(1));
+        var blocked = save("product-1", now);
+        var due = save("product-2", now);
+        var dueAfterDue = save("product-2", now);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        var messages = productOutboxRepository.findDeliverable(ProductOutboxStatus.PENDING, now, Limit.of(2));
+
+        // Then
+        assertThat(messages).extracting(ProductOutboxMessage::getId)
+                .containsExactly(due.getId(), dueAfterDue.getId())
+                .doesNotContain(waiting.getId(), blocked.getId());
+    }
+
+    private ProductOutboxMessage save(String productId, LocalDateTime nextAttemptAt) {
+        ProductOutboxMessage message = ProductOutboxMessage.create(productId, ProductOutboxEventType.SEARCH_PRODUCT_DELETED, null);
+        ReflectionTestUtils.setField(message, "nextAttemptAt", nextAttemptAt);
+        return productOutboxRepository.save(message);
+    }
+}
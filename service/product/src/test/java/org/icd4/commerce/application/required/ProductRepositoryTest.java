@@ -2,10 +2,13 @@ package org.icd4.commerce.application.required;
 
 import jakarta.persistence.EntityManager;
 import org.icd4.commerce.domain.ProductFixture;
+import org.icd4.commerce.domain.product.model.Product;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.icd4.commerce.domain.product.model.ProductStatus.ACTIVE;
 
@@ -32,4 +35,20 @@ class ProductRepositoryTest {
         assertThat(find.getStatus()).isEqualTo(ACTIVE);
         assertThat(find.getCreatedAt()).isNotNull();
     }
+
+    @Test
+    void findAllByIdInWithVariants() {
+        var first = productRepository.save(ProductFixture.createProduct());
+        first.addVariants(ProductFixture.createProductRequest().variants());
+        var second = productRepository.save(ProductFixture.createProduct());
+        entityManager.flush();
+        entityManager.clear();
+
+        var products = productRepository.findAllByIdInWithVariants(List.of(first.getId(), second.getId(), "unknown"));
+
+        assertThat(products).extracting(Product::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(products).filteredOn(product -> product.getId().equals(first.getId()))
+                .singleElement()
+                .satisfies(product -> assertThat(product.getVariants()).hasSize(2));
+    }
 }
\ No newline at end of file
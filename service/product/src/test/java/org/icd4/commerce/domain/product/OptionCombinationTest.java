@@ -0,0 +1,80 @@
+package org.icd4.commerce.domain.product;
+
+import org.icd4.commerce.domain.product.model.OptionCombination;
+import org.icd4.commerce.domain.product.model.ProductMoney;
+import org.icd4.commerce.domain.product.model.ProductVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class OptionCombinationTest {
+
+    @Test
+    @DisplayName("옵션은 입력 순서와 관계없이 이름 순으로 정렬되어 같은 값으로 취급된다")
+    void canonicalOrder() {
+        // Given
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("size", "L");
+        options.put("color", "red");
+
+        // When
+        OptionCombination combination = OptionCombination.of(options);
+
+        // Then
+        assertThat(combination.asMap()).containsExactly(entry("color", "red"), entry("size", "L"));
+        assertThat(combination).isEqualTo(OptionCombination.parse("{\"size\":\"L\",\"color\":\"red\"}"));
+        assertThat(combination.get("size")).isEqualTo("L");
+        assertThat(combination.get("material")).isNull();
+        assertThat(combination.toJson()).isEqualTo("{\"color\":\"red\",\"size\":\"L\"}");
+    }
+
+    @Test
+    @DisplayName("같은 옵션 이름과 값은 변형끼리 같은 문자열 인스턴스를 공유한다")
+    void internsNamesAndValues() {
+        // When
+        OptionCombination first = OptionCombination.parse("{\"color\":\"red\"}");
+        OptionCombination second = OptionCombination.parse("{\"color\":\"red\"}");
+
+        // Then
+        assertThat(first.nameAt(0)).isSameAs(second.nameAt(0));
+        assertThat(first.valueAt(0)).isSameAs(second.valueAt(0));
+    }
+
+    @Test
+    @DisplayName("JSON이 비어 있으면 옵션이 없는 조합이고, 형식이 잘못되면 예외가 발생한다")
+    void parseEmptyAndInvalid() {
+        assertThat(OptionCombination.parse(null).isEmpty()).isTrue();
+        assertThat(OptionCombination.parse(" ").isEmpty()).isTrue();
+        assertThatThrownBy(() -> OptionCombination.parse("{color"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정렬된 옵션으로 만든 이전 형식 SKU는 기존 방식(정렬 후 이어 붙인 문자열의 해시)과 같다")
+    void legacySkuCompatibleWithPreviousFormat() {
+        // Given
+        OptionCombination options = OptionCombination.of(Map.of("size", "L", "color", "red"));
+        String previous = "productId_" + Integer.toHexString("color_red_size_L".hashCode()).toUpperCase();
+
+        // When & Then
+        assertThat(ProductVariant.generateLegacySku("productId", options)).isEqualTo(previous);
+    }
+
+    @Test
+    @DisplayName("변형의 옵션 조합은 처음 한 번만 파싱된다")
+    void parsedOnce() {
+        // Given
+        ProductVariant variant = ProductVariant.create("productId", "sellerId", Map.of("color", "red"),
+                ProductMoney.of(BigDecimal.ONE, "KRW"), 1L);
+
+        // When & Then
+        assertThat(variant.getOptions()).isSameAs(variant.getOptions());
+    }
+}
@@ -1,14 +1,17 @@
 package org.icd4.commerce.domain.product;
 
 import org.icd4.commerce.domain.ProductFixture;
+import org.icd4.commerce.domain.ProductVariantFixture;
 import org.icd4.commerce.domain.product.model.*;
 import org.icd4.commerce.domain.product.request.ProductCreateRequest;
 import org.icd4.commerce.domain.product.request.ProductInfoUpdateRequest;
+import org.icd4.commerce.domain.product.request.ProductVariantRequest;
 import org.icd4.commerce.domain.product.request.ProductVariantUpdateRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -300,6 +303,70 @@ class ProductTest {
             assertThat(foundVariant.getSku()).isEqualTo(addedVariant.getSku());
         }
 
+        @Test
+        @DisplayName("벌크로 추가한 변형과 이후 단건으로 추가한 변형 모두 SKU로 찾을 수 있다")
+        void findVariantBySkuAfterBulkAdd() {
+            // given
+            List<ProductVariantRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                requests.add(new ProductVariantRequest("{\"size\":\"" + i + "\"}", BigDecimal.valueOf(1500), "KRW", 10L));
+            }
+            product.findVariantBySku("warm-up-index");
+
+            // when
+            product.addVariants(requests);
+            ProductVariant added = product.addVariant(Map.of("color", "red"), ProductMoney.of(BigDecimal.valueOf(1500), "KRW"), 1L);
+
+            // then
+            assertThat(product.getVariantCount()).isEqualTo(1_001);
+            assertThat(product.getAllVariants())
+                    .allSatisfy(variant -> assertThat(product.findVariantBySku(variant.getSku())).isSameAs(variant));
+            assertThat(product.findVariantBySku(added.getSku())).isSameAs(added);
+        }
+
+        @Test
+        @DisplayName("변형 목록이 같은 크기의 다른 변형으로 교체되면 SKU 인덱스를 다시 만든다")
+        void findVariantBySkuAfterVariantsReplaced() {
+            // given
+            ProductVariant original = product.addVariant(Map.of("color", "red"), ProductMoney.of(BigDecimal.valueOf(1500), "KRW"), 1L);
+            assertThat(product.findVariantBySku(original.getSku())).isSameAs(original);
+            ProductVariant replacement = ProductVariantFixture.createProductVariant("replacement-sku");
+
+            // when
+            ReflectionTestUtils.setField(product, "variants", new ArrayList<>(List.of(replacement)));
+
+            // then
+            assertThat(product.findVariantBySku(original.getSku())).isNull();
+            assertThat(product.findVariantBySku("replacement-sku")).isSameAs(replacement);
+        }
+
+        @Test
+        @DisplayName("변형 목록은 밖에서 변경할 수 없다")
+        void variantsAreReadOnly() {
+            // given
+            ProductVariant variant = product.addVariant(Map.of("color", "red"), ProductMoney.of(BigDecimal.valueOf(1500), "KRW"), 1L);
+
+            // when & then
+            assertThatThrownBy(() -> product.getVariants().remove(variant))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> product.getVariants().add(ProductVariantFixture.createProductVariant("other-sku")))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThat(product.findVariantBySku(variant.getSku())).isSameAs(variant);
+        }
+
+        @Test
+        @DisplayName("벌크 추가 요청 안에서 SKU가 겹치면 예외가 발생한다")
+        void addVariantsWithDuplicatedSkus() {
+            // given
+            ProductVariantRequest request = new ProductVariantRequest("{\"color\":\"red\"}", BigDecimal.valueOf(1500), "KRW", 10L);
+
+            // when & then
+            assertThatThrownBy(() -> product.addVariants(List.of(request, request)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("중복된 SKU");
+            assertThat(product.getVariantCount()).isZero();
+        }
+
         @Test
         @DisplayName("존재하지 않는 SKU로 변형을 찾으면 null을 반환한다")
         void findVariantBySkuNotFound() {
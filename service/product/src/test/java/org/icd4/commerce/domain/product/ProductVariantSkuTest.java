@@ -0,0 +1,114 @@
+package org.icd4.commerce.domain.product;
+
+import org.icd4.commerce.domain.ProductFixture;
+import org.icd4.commerce.domain.product.model.OptionCombination;
+import org.icd4.commerce.domain.product.model.Product;
+import org.icd4.commerce.domain.product.model.ProductMoney;
+import org.icd4.commerce.domain.product.model.ProductVariant;
+import org.icd4.commerce.domain.product.request.ProductVariantRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductVariantSkuTest {
+
+    @Test
+    @DisplayName("SKU는 상품 ID 뒤에 16자리 대문자 16진수가 붙는 고정 길이 형식이다")
+    void fixedWidth() {
+        // When
+        String sku = ProductVariant.generateSku("productId", OptionCombination.of(Map.of("color", "red", "size", "L")));
+
+        // Then
+        assertThat(sku).matches("productId_[0-9A-F]{16}");
+        assertThat(ProductVariant.generateSku("productId", OptionCombination.EMPTY)).isEqualTo("productId");
+    }
+
+    @Test
+    @DisplayName("SKU 해시는 저장된 값과 맞도록 참조 값으로 고정된다")
+    void referenceVectors() {
+        // When & Then: 값이 바뀌면 이미 저장된 SKU와 새로 만든 SKU가 어긋납니다.
+        assertThat(ProductVariant.generateSku("productId", OptionCombination.of(Map.of("color", "red"))))
+                .isEqualTo("productId_11853378E5FB3F4B");
+        assertThat(ProductVariant.generateSku("productId", OptionCombination.of(Map.of("color", "red", "size", "L"))))
+                .isEqualTo("productId_5505B4F198B9740C");
+        assertThat(ProductVariant.generateSku("productId", OptionCombination.of(Map.of("a", "b_c"))))
+                .isEqualTo("productId_6B0EB511EB5FDBE5");
+        assertThat(ProductVariant.generateSku("productId", OptionCombination.of(Map.of("a_b", "c"))))
+                .isEqualTo("productId_58D62B6F89DE415D");
+        assertThat(ProductVariant.generateSku("productId", OptionCombination.of(Map.of("색상", "빨강", "사이즈", "XL"))))
+                .isEqualTo("productId_86034CA6C648CD18");
+    }
+
+    @Test
+    @DisplayName("옵션 입력 순서와 관계없이 같은 조합은 같은 SKU를 만든다")
+    void deterministic() {
+        // Given
+        OptionCombination first = OptionCombination.parse("{\"size\":\"L\",\"color\":\"red\"}");
+        OptionCombination second = OptionCombination.parse("{\"color\":\"red\",\"size\":\"L\"}");
+
+        // When & Then
+        assertThat(ProductVariant.generateSku("productId", first))
+                .isEqualTo(ProductVariant.generateSku("productId", second));
+    }
+
+    @Test
+    @DisplayName("구분자 위치만 다른 옵션 조합도 서로 다른 SKU를 만든다")
+    void boundaryAmbiguity() {
+        // Given: 이전 형식에서는 둘 다 "a_b_c"로 이어 붙여져 같은 SKU가 됩니다.
+        OptionCombination first = OptionCombination.of(Map.of("a", "b_c"));
+        OptionCombination second = OptionCombination.of(Map.of("a_b", "c"));
+
+        // When & Then
+        assertThat(ProductVariant.generateLegacySku("productId", first))
+                .isEqualTo(ProductVariant.generateLegacySku("productId", second));
+        assertThat(ProductVariant.generateSku("productId", first))
+                .isNotEqualTo(ProductVariant.generateSku("productId", second));
+    }
+
+    @Test
+    @DisplayName("10만 개의 옵션 조합에서 SKU가 겹치지 않는다")
+    void noCollisions() {
+        // Given
+        Set<String> skus = new HashSet<>();
+
+        // When
+        for (int color = 0; color < 100; color++) {
+            for (int size = 0; size < 1_000; size++) {
+                skus.add(ProductVariant.generateSku("productId",
+                        OptionCombination.of(Map.of("color", "c" + color, "size", "s" + size))));
+            }
+        }
+
+        // Then
+        assertThat(skus).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("이전 형식 SKU로 등록된 변형과 같은 옵션 조합은 다시 추가할 수 없다")
+    void rejectsDuplicateOfLegacyVariant() {
+        // Given: DB에서 읽어 온 것처럼 이전 형식 SKU의 변형을 목록에 직접 넣습니다.
+        Product product = ProductFixture.createProduct("productId");
+        ProductVariant legacy = ProductVariant.create("productId", "sellerId", Map.of("color", "red"),
+                ProductMoney.of(BigDecimal.ONE, "KRW"), 1L);
+        ReflectionTestUtils.setField(legacy, "sku",
+                ProductVariant.generateLegacySku("productId", OptionCombination.of(Map.of("color", "red"))));
+        @SuppressWarnings("unchecked")
+        List<ProductVariant> variants = (List<ProductVariant>) ReflectionTestUtils.getField(product, "variants");
+        variants.add(legacy);
+
+        // When & Then
+        assertThatThrownBy(() -> product.addVariants(List.of(
+                new ProductVariantRequest("{\"color\":\"red\"}", BigDecimal.ONE, "KRW", 1L))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("중복된 SKU");
+    }
+}
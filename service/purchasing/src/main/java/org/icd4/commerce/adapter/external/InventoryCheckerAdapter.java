@@ -4,6 +4,7 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.icd4.commerce.adapter.external.exception.ProductNotFoundException;
+import org.icd4.commerce.adapter.external.exception.ProductServiceException;
 import org.icd4.commerce.application.required.common.InventoryChecker;
 import org.icd4.commerce.application.required.common.ProductServiceClient;
 import org.icd4.commerce.domain.common.ProductId;
@@ -12,6 +13,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -38,23 +42,56 @@ public class InventoryCheckerAdapter implements InventoryChecker {
     @Override
     public AvailableStock getAvailableStock(StockKeepingUnit sku) {
         try {
-            StockCheckResponse body = restClient.get()
-                    .uri("/api/stocks/{stockId}", sku.value())
+            // 재고 서비스의 수량 캐시를 타도록 수량 전용 API를 사용합니다.
+            StockQuantityResponse body = restClient.get()
+                    .uri("/api/stocks/{stockId}/quantity", sku.value())
                     .retrieve()
-                    .body(StockCheckResponse.class);
+                    .body(StockQuantityResponse.class);
             assert body != null;
-            return new AvailableStock(
-                    Integer.parseInt(body.data().get("quantity"))
-            );
+            return new AvailableStock(Math.toIntExact(body.data()));
         } catch (Exception e) {
             log.error("[StockClient.getAvailableStock()] sku={},", sku, e);
         }
         return null;
     }
 
-    private record StockCheckResponse(
+    @Override
+    public Map<StockKeepingUnit, AvailableStock> getAvailableStocks(Collection<StockKeepingUnit> skus) {
+        Map<StockKeepingUnit, AvailableStock> availableStocks = new HashMap<>();
+        try {
+            List<String> skuValues = skus.stream()
+                    .map(StockKeepingUnit::value)
+                    .distinct()
+                    .toList();
+            StockAvailabilityResponse body = restClient.post()
+                    .uri("/api/stocks/availability")
+                    .body(new StockAvailabilityRequest(skuValues))
+                    .retrieve()
+                    .body(StockAvailabilityResponse.class);
+            assert body != null;
+            body.data().forEach((sku, quantity) ->
+                    availableStocks.put(StockKeepingUnit.of(sku), new AvailableStock(Math.toIntExact(quantity))));
+        } catch (Exception e) {
+            // 빈 결과를 돌려주면 호출한 쪽이 재고 부족으로 판단하므로, 재고 서비스 장애는 장애로 알립니다.
+            log.error("[StockClient.getAvailableStocks()] skus={},", skus, e);
+            throw new ProductServiceException("Failed to get available stocks: " + skus, e);
+        }
+        return availableStocks;
+    }
+
+    private record StockAvailabilityRequest(List<String> skus) {
+    }
+
+    private record StockAvailabilityResponse(
+            String success,
+            Map<String, Long> data
+    ) {
+
+    }
+
+    private record StockQuantityResponse(
             String success,
-            Map<String, String> data
+            Long data
     ) {
 
     }
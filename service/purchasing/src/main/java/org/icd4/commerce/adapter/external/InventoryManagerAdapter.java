@@ -9,9 +9,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.List;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class InventoryManagerAdapter implements InventoryManager {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private RestClient restClient;
     @Value("${external.stock-service.base-url:http://localhost:8082}")
     private String stockServiceBaseUrl;
@@ -63,6 +68,53 @@ public class InventoryManagerAdapter implements InventoryManager {
         }
     }
 
+    @Override
+    public String reduceStocks(String idempotencyKey, Map<StockKeepingUnit, Integer> quantities) {
+        try {
+            return restClient
+                    .patch()
+                    .uri("/api/stocks/batch/decrease")
+                    .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .body(StockBatchUpdateRequest.from(quantities))
+                    .retrieve()
+                    .body(String.class);
+
+        } catch (Exception e) {
+            throw new ProductServiceException(
+                    "Failed to reduce stocks: " + quantities.keySet(), e
+            );
+        }
+    }
+
+    @Override
+    public String restoreStocks(String idempotencyKey, Map<StockKeepingUnit, Integer> quantities) {
+        try {
+            return restClient
+                    .patch()
+                    .uri("/api/stocks/batch/increase")
+                    .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .body(StockBatchUpdateRequest.from(quantities))
+                    .retrieve()
+                    .body(String.class);
+
+        } catch (Exception e) {
+            throw new ProductServiceException(
+                    "Failed to restore stocks: " + quantities.keySet(), e
+            );
+        }
+    }
+
     private record StockDecreaseRequest(int quantity) {
     }
+
+    private record StockBatchUpdateRequest(List<Item> items) {
+        private static StockBatchUpdateRequest from(Map<StockKeepingUnit, Integer> quantities) {
+            return new StockBatchUpdateRequest(quantities.entrySet().stream()
+                    .map(entry -> new Item(entry.getKey().value(), entry.getValue()))
+                    .toList());
+        }
+
+        private record Item(String sku, int quantity) {
+        }
+    }
 }
@@ -6,10 +6,15 @@ import org.icd4.commerce.application.provided.order.command.ConfirmPaymentComman
 import org.icd4.commerce.application.provided.order.support.OrderLoader;
 import org.icd4.commerce.application.required.common.InventoryManager;
 import org.icd4.commerce.application.required.order.OrderRepositoryPort;
+import org.icd4.commerce.domain.common.StockKeepingUnit;
 import org.icd4.commerce.domain.order.Order;
+import org.icd4.commerce.domain.order.OrderItem;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Service
 @Transactional
@@ -22,12 +27,15 @@ public class ConfirmPaymentUseCase {
     public OrderStatusResponse confirmPayment(ConfirmPaymentCommand command) {
         Order order = orderLoader.findById(command.orderId());
 
-        //재고 차감 요청
-        order.getOrderItems().forEach(item -> {
-            inventoryManager.reduceStock(item.getSku(), item.getQuantity());
-        });
+        //재고 차감 요청 (주문 항목 전체를 한 번에 차감)
+        inventoryManager.reduceStocks(order.getOrderId() + "-confirm", quantitiesBySku(order));
 
         order.confirmPayment(command.paymentId());
         return OrderStatusResponse.from(orderRepository.save(order));
     }
+
+    private Map<StockKeepingUnit, Integer> quantitiesBySku(Order order) {
+        return order.getOrderItems().stream()
+                .collect(Collectors.toMap(OrderItem::getSku, OrderItem::getQuantity, Integer::sum));
+    }
 }
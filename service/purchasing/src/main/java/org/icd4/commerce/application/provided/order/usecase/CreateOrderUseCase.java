@@ -22,12 +22,15 @@ import java.util.stream.IntStream;
 @Service
 @Transactional
 public class CreateOrderUseCase {
+    private static final AvailableStock OUT_OF_STOCK = new AvailableStock(0);
+
     private final OrderRepositoryPort orderRepository;
     private final ProductDetailsProvider productDetailsProvider;
     private final InventoryChecker inventoryChecker;
 
     public Order createOrder(CreateOrderCommand command) {
         OrderId orderId = OrderId.generate();
+        Map<StockKeepingUnit, AvailableStock> availableStocks = findAvailableStocks(command);
         //주문 항목 생성
         List<OrderItem> orderItems = IntStream.range(0, command.items().size())
                 .mapToObj(i -> {
@@ -37,7 +40,7 @@ public class CreateOrderUseCase {
 
                     ProductDetails product = productDetailsProvider.getProductInfo(productId, sku);
 
-                    AvailableStock availableStock = inventoryChecker.getAvailableStock(sku);
+                    AvailableStock availableStock = availableStocks.getOrDefault(sku, OUT_OF_STOCK);
                     if (!availableStock.isAvailable(item.quantity())) {
                         throw new InsufficientStockException(productId, availableStock.availableStock(), item.quantity());
                     }
@@ -67,6 +70,7 @@ public class CreateOrderUseCase {
 
     public Order createOrder2(CreateOrderCommand command) {
         OrderId orderId = OrderId.generate();
+        Map<StockKeepingUnit, AvailableStock> availableStocks = findAvailableStocks(command);
         //주문 항목 생성
         List<OrderItem> orderItems = command.items().stream()
                 .map(item -> {
@@ -75,7 +79,7 @@ public class CreateOrderUseCase {
 
                     ProductDetails product = productDetailsProvider.getProductInfo(productId, sku);
 
-                    AvailableStock availableStock = inventoryChecker.getAvailableStock(sku);
+                    AvailableStock availableStock = availableStocks.getOrDefault(sku, OUT_OF_STOCK);
                     if (!availableStock.isAvailable(item.quantity())) {
                         throw new InsufficientStockException(productId, availableStock.availableStock(), item.quantity());
                     }
@@ -101,4 +105,14 @@ public class CreateOrderUseCase {
 
         return orderRepository.save(order);
     }
+
+    /**
+     * 주문 항목의 재고를 한 번의 요청으로 조회합니다. 응답에 없는 SKU는 재고가 없는 것으로 봅니다.
+     */
+    private Map<StockKeepingUnit, AvailableStock> findAvailableStocks(CreateOrderCommand command) {
+        List<StockKeepingUnit> skus = command.items().stream()
+                .map(item -> StockKeepingUnit.of(item.sku()))
+                .toList();
+        return inventoryChecker.getAvailableStocks(skus);
+    }
 }
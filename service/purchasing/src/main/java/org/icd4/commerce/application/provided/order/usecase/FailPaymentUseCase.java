@@ -7,10 +7,15 @@ import org.icd4.commerce.application.provided.order.command.FailPaymentCommand;
 import org.icd4.commerce.application.provided.order.support.OrderLoader;
 import org.icd4.commerce.application.required.common.InventoryManager;
 import org.icd4.commerce.application.required.order.OrderRepositoryPort;
+import org.icd4.commerce.domain.common.StockKeepingUnit;
 import org.icd4.commerce.domain.order.Order;
+import org.icd4.commerce.domain.order.OrderItem;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * 결제 실패 처리 유스케이스
  */
@@ -26,11 +31,14 @@ public class FailPaymentUseCase {
     public OrderStatusResponse failPayment(FailPaymentCommand command) {
         Order order = orderLoader.findById(command.orderId());
 
-        //재고 증가 요청
-        order.getOrderItems().forEach(item -> {
-            inventoryManager.restoreStock(item.getSku(), item.getQuantity());
-        });
+        //재고 증가 요청 (주문 항목 전체를 한 번에 복원)
+        inventoryManager.restoreStocks(order.getOrderId() + "-fail", quantitiesBySku(order));
         order.failPayment();
         return OrderStatusResponse.from(orderRepository.save(order));
     }
+
+    private Map<StockKeepingUnit, Integer> quantitiesBySku(Order order) {
+        return order.getOrderItems().stream()
+                .collect(Collectors.toMap(OrderItem::getSku, OrderItem::getQuantity, Integer::sum));
+    }
 }
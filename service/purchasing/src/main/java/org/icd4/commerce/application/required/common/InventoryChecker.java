@@ -2,10 +2,19 @@ package org.icd4.commerce.application.required.common;
 
 import org.icd4.commerce.domain.common.StockKeepingUnit;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface InventoryChecker {
 
     AvailableStock getAvailableStock(StockKeepingUnit sku);
 
+    /**
+     * 여러 SKU의 재고를 한 번의 요청으로 조회합니다. 재고가 없는 SKU는 결과에 포함되지 않습니다.
+     * 재고 서비스를 호출할 수 없으면 빈 결과 대신 예외를 던집니다.
+     */
+    Map<StockKeepingUnit, AvailableStock> getAvailableStocks(Collection<StockKeepingUnit> skus);
+
     record AvailableStock(int availableStock) {
         public boolean isAvailable(int quantity) {
             return availableStock >= quantity;
@@ -5,6 +5,8 @@ import org.icd4.commerce.adapter.external.exception.ProductServiceException;
 import org.icd4.commerce.adapter.external.exception.StockNotFoundException;
 import org.icd4.commerce.domain.common.StockKeepingUnit;
 
+import java.util.Map;
+
 /**
  * 재고 차감 인터페이스.
  *
@@ -13,4 +15,15 @@ import org.icd4.commerce.domain.common.StockKeepingUnit;
 public interface InventoryManager {
     String reduceStock(StockKeepingUnit sku, int quantity);
     String restoreStock(StockKeepingUnit sku, int quantity);
+
+    /**
+     * 여러 SKU의 재고를 한 번의 요청으로 차감합니다. 하나라도 실패하면 어떤 재고도 차감되지 않습니다.
+     * 같은 멱등 키로 다시 요청하면 재고 서비스는 재고를 다시 차감하지 않습니다.
+     */
+    String reduceStocks(String idempotencyKey, Map<StockKeepingUnit, Integer> quantities);
+
+    /**
+     * 여러 SKU의 재고를 한 번의 요청으로 복원합니다.
+     */
+    String restoreStocks(String idempotencyKey, Map<StockKeepingUnit, Integer> quantities);
 }
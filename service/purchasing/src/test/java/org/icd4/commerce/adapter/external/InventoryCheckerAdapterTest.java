@@ -0,0 +1,27 @@
+package org.icd4.commerce.adapter.external;
+
+import org.icd4.commerce.adapter.external.exception.ProductServiceException;
+import org.icd4.commerce.domain.common.StockKeepingUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InventoryCheckerAdapterTest {
+
+    @Test
+    @DisplayName("재고 서비스를 호출할 수 없으면 빈 결과 대신 예외를 던진다")
+    void getAvailableStocksFailsWhenStockServiceUnavailable() {
+        // Given: 연결을 받지 않는 주소
+        InventoryCheckerAdapter adapter = new InventoryCheckerAdapter();
+        ReflectionTestUtils.setField(adapter, "stockServiceBaseUrl", "http://localhost:1");
+        adapter.init();
+
+        // When & Then
+        assertThatThrownBy(() -> adapter.getAvailableStocks(List.of(StockKeepingUnit.of("SKU-001"))))
+                .isInstanceOf(ProductServiceException.class);
+    }
+}
@@ -1,6 +1,8 @@
 package org.icd4.commerce.application.provided.order;
 
+import org.icd4.commerce.adapter.external.exception.ProductServiceException;
 import org.icd4.commerce.application.provided.common.ProductDetailsProvider;
+import org.icd4.commerce.application.provided.cart.exception.InsufficientStockException;
 import org.icd4.commerce.application.provided.order.command.CreateOrderCommand;
 import org.icd4.commerce.application.provided.order.usecase.CreateOrderUseCase;
 import org.icd4.commerce.application.required.common.InventoryChecker;
@@ -20,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -78,10 +81,11 @@ class CreateOrderUseCaseTest {
         when(productDetailsProvider.getProductInfo(eq(ProductId.of("PROD-002")), eq(StockKeepingUnit.of("SKU-002"))))
                 .thenReturn(mockProduct2);
 
-        when(inventoryChecker.getAvailableStock(eq(StockKeepingUnit.of("SKU-001"))))
-                .thenReturn(sufficientStock);
-        when(inventoryChecker.getAvailableStock(eq(StockKeepingUnit.of("SKU-002"))))
-                .thenReturn(sufficientStock);
+        when(inventoryChecker.getAvailableStocks(List.of(StockKeepingUnit.of("SKU-001"), StockKeepingUnit.of("SKU-002"))))
+                .thenReturn(Map.of(
+                        StockKeepingUnit.of("SKU-001"), sufficientStock,
+                        StockKeepingUnit.of("SKU-002"), sufficientStock
+                ));
 
         // ArgumentCaptor로 실제 저장되는 주문 객체 캡처
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
@@ -106,8 +110,8 @@ class CreateOrderUseCaseTest {
         // 각 서비스 호출 검증
         verify(productDetailsProvider).getProductInfo(eq(ProductId.of("PROD-001")), eq(StockKeepingUnit.of("SKU-001")));
         verify(productDetailsProvider).getProductInfo(eq(ProductId.of("PROD-002")), eq(StockKeepingUnit.of("SKU-002")));
-        verify(inventoryChecker).getAvailableStock(eq(StockKeepingUnit.of("SKU-001")));
-        verify(inventoryChecker).getAvailableStock(eq(StockKeepingUnit.of("SKU-002")));
+        verify(inventoryChecker).getAvailableStocks(List.of(StockKeepingUnit.of("SKU-001"), StockKeepingUnit.of("SKU-002")));
+        verify(inventoryChecker, never()).getAvailableStock(any());
         verify(orderRepository).save(any(Order.class));
 
     }
@@ -128,5 +132,33 @@ class CreateOrderUseCaseTest {
                 .hasMessageContaining("최소 1개의 주문 항목이 필요합니다.");
     }
 
-}
+    @Test
+    @DisplayName("재고 조회 결과에 없는 SKU는 재고 부족으로 주문 생성 실패")
+    void createOrder_missingStock_throwsException() {
+        // Given
+        when(productDetailsProvider.getProductInfo(eq(ProductId.of("PROD-001")), eq(StockKeepingUnit.of("SKU-001"))))
+                .thenReturn(mockProduct1);
+        when(productDetailsProvider.getProductInfo(eq(ProductId.of("PROD-002")), eq(StockKeepingUnit.of("SKU-002"))))
+                .thenReturn(mockProduct2);
+        when(inventoryChecker.getAvailableStocks(List.of(StockKeepingUnit.of("SKU-001"), StockKeepingUnit.of("SKU-002"))))
+                .thenReturn(Map.of(StockKeepingUnit.of("SKU-001"), sufficientStock));
 
+        // When & Then
+        assertThatThrownBy(() -> createOrderUseCase.createOrder2(command))
+                .isInstanceOf(InsufficientStockException.class);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("재고 서비스 장애는 재고 부족이 아닌 서비스 오류로 전달된다")
+    void createOrder_stockServiceUnavailable_throwsServiceException() {
+        // Given
+        when(inventoryChecker.getAvailableStocks(List.of(StockKeepingUnit.of("SKU-001"), StockKeepingUnit.of("SKU-002"))))
+                .thenThrow(new ProductServiceException("Failed to get available stocks"));
+
+        // When & Then
+        assertThatThrownBy(() -> createOrderUseCase.createOrder2(command))
+                .isInstanceOf(ProductServiceException.class);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+}
@@ -1,5 +1,7 @@
 dependencies {
     // add your dependencies here
+    implementation(project(":common:id-generator"))
+    implementation(project(":common:event-contracts"))
     implementation("org.springframework.boot:spring-boot-starter")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -12,3 +14,8 @@ dependencies {
 
     testRuntimeOnly ("com.h2database:h2")
 }
+
+tasks.test {
+    // 벤치마크 테스트는 -Dbenchmark=true 일 때만 실행됩니다.
+    System.getProperty("benchmark")?.let { systemProperty("benchmark", it) }
+}
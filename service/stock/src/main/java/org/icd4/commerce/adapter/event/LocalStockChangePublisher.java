@@ -0,0 +1,37 @@
+package org.icd4.commerce.adapter.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.required.StockChangePublisher;
+import org.icd4.commerce.event.stock.StockQuantityChangedEvent;
+import org.icd4.commerce.event.stock.StockStatusChangedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 변경 이벤트를 같은 프로세스의 Spring 이벤트로 발행하는 기본 구현체 (로컬 개발, 테스트용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.change-event.publisher", havingValue = "local", matchIfMissing = true)
+public class LocalStockChangePublisher implements StockChangePublisher {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(List<StockQuantityChangedEvent> events) {
+        events.forEach(event -> {
+            log.debug("재고 변경 이벤트 발행: sku={}, quantity={}", event.sku(), event.quantity());
+            applicationEventPublisher.publishEvent(event);
+        });
+    }
+
+    @Override
+    public void publishStatusChange(StockStatusChangedEvent event) {
+        log.info("재고 상태 변경 이벤트 발행: sku={}, {} -> {}", event.sku(), event.previousStatus(), event.status());
+        applicationEventPublisher.publishEvent(event);
+    }
+}
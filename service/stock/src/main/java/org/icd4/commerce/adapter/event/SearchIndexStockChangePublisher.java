@@ -0,0 +1,98 @@
+package org.icd4.commerce.adapter.event;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.required.StockChangePublisher;
+import org.icd4.commerce.event.stock.StockQuantityChangedEvent;
+import org.icd4.commerce.event.stock.StockStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * 재고 변경 이벤트를 검색 서비스의 재고 갱신 API로 전달하는 구현체.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.change-event.publisher", havingValue = "search")
+public class SearchIndexStockChangePublisher implements StockChangePublisher {
+    private static final String OUT_OF_STOCK = "OUT_OF_STOCK";
+
+    private RestClient restClient;
+    @Value("${stock.change-event.search-service-url:http://localhost:8083}")
+    private String searchServiceUrl;
+
+    @PostConstruct
+    public void init() {
+        this.restClient = RestClient.builder()
+                .baseUrl(searchServiceUrl)
+                .build();
+    }
+
+    @Override
+    public void publish(List<StockQuantityChangedEvent> events) {
+        events.forEach(event -> {
+            try {
+                restClient.patch()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/api/v1/product/{productId}/stock")
+                                .queryParam("sku", event.sku())
+                                .queryParam("stock", event.quantity())
+                                .build(productIdOf(event.sku())))
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (Exception e) {
+                log.error("[SearchIndexStockChangePublisher.publish()] sku={}, quantity={}", event.sku(), event.quantity(), e);
+            }
+        });
+    }
+
+    /**
+     * 상태 전이는 모아서 보내지 않고 바로 반영합니다. 수량을 갱신하고, 품절 여부가 바뀐 경우에는
+     * 검색 문서의 변형 상태도 함께 바꿉니다 (품절 → OUT_OF_STOCK, 품절 해제 → ACTIVE).
+     * AVAILABLE ↔ LOW_STOCK 전이는 변형 상태에 대응하는 값이 없어 수량만 갱신합니다.
+     */
+    @Override
+    public void publishStatusChange(StockStatusChangedEvent event) {
+        publish(List.of(new StockQuantityChangedEvent(event.sku(), event.quantity(), event.occurredAt())));
+
+        String variantStatus = variantStatusOf(event);
+        if (variantStatus == null) {
+            return;
+        }
+        try {
+            restClient.patch()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/api/v1/product/{productId}/variant_status")
+                            .queryParam("sku", event.sku())
+                            .queryParam("variantStatus", variantStatus)
+                            .build(productIdOf(event.sku())))
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (Exception e) {
+            log.error("[SearchIndexStockChangePublisher.publishStatusChange()] sku={}, {} -> {}",
+                    event.sku(), event.previousStatus(), event.status(), e);
+        }
+    }
+
+    private String variantStatusOf(StockStatusChangedEvent event) {
+        if (OUT_OF_STOCK.equals(event.status())) {
+            return OUT_OF_STOCK;
+        }
+        if (OUT_OF_STOCK.equals(event.previousStatus())) {
+            return "ACTIVE";
+        }
+        return null;
+    }
+
+    /**
+     * 상품 서비스의 SKU는 "상품ID" 또는 "상품ID_옵션해시" 형태입니다.
+     */
+    private String productIdOf(String sku) {
+        int separator = sku.indexOf('_');
+        return separator < 0 ? sku : sku.substring(0, separator);
+    }
+}
@@ -2,6 +2,11 @@ package org.icd4.commerce.adapter.webapi;
 
 import lombok.extern.slf4j.Slf4j;
 import org.icd4.commerce.adapter.webapi.dto.ApiResponse;
+import org.icd4.commerce.application.idempotency.DuplicateIdempotentRequestException;
+import org.icd4.commerce.application.idempotency.IdempotencyKeyMismatchException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -53,4 +58,48 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(404)
                 .body(ApiResponse.error(e.getMessage()));
     }
-} 
\ No newline at end of file
+
+    /**
+     * 이미 처리된 멱등 키를 다른 요청(SKU, 변경 종류, 수량)에 다시 사용한 경우
+     */
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+        log.warn("멱등 키 재사용: {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    /**
+     * 같은 멱등 키의 요청이 동시에 처리되어 기록이 충돌한 경우
+     */
+    @ExceptionHandler(DuplicateIdempotentRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDuplicateIdempotentRequestException(DuplicateIdempotentRequestException e) {
+        log.warn("멱등 키 중복 요청: {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("이미 처리 중인 요청입니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    /**
+     * 유니크 제약 위반 등 이미 존재하는 데이터와 충돌한 경우 (예: 같은 SKU의 재고를 동시에 등록)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        log.warn("데이터 무결성 위반: {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("이미 등록된 데이터입니다. 요청 내용을 확인해주세요."));
+    }
+
+    /**
+     * 같은 재고를 동시에 변경하다 충돌했고, 재시도 한도(또는 예산) 안에서 해소되지 않은 경우
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("재고 변경 충돌: {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("다른 요청과 동시에 재고를 변경해 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+}
@@ -4,6 +4,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.icd4.commerce.adapter.webapi.dto.ApiResponse;
+import org.icd4.commerce.adapter.webapi.dto.StockAvailabilityRequest;
+import org.icd4.commerce.adapter.webapi.dto.StockBatchUpdateRequest;
+import org.icd4.commerce.adapter.webapi.dto.StockBulkRegisterRequest;
 import org.icd4.commerce.adapter.webapi.dto.StockRegisterRequest;
 import org.icd4.commerce.adapter.webapi.dto.StockResponse;
 import org.icd4.commerce.adapter.webapi.dto.StockUpdateRequest;
@@ -13,11 +16,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/stocks")
 @RequiredArgsConstructor
 public class StockApi {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final StockService stockService;
 
     @PostMapping
@@ -29,6 +37,30 @@ public class StockApi {
                     .body(ApiResponse.success("재고가 성공적으로 등록되었습니다.", response));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<StockResponse>>> registerStocks(@Valid @RequestBody StockBulkRegisterRequest request,
+                                                                           @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        List<Stock> registered = idempotencyKey == null
+                ? stockService.registerAll(request.toQuantities())
+                : stockService.registerAll(request.toQuantities(), idempotencyKey);
+        List<StockResponse> response = registered.stream()
+                .map(StockResponse::from)
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("재고가 일괄 등록되었습니다.", response));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getAvailabilityByQuery(@Valid @ModelAttribute StockAvailabilityRequest request) {
+        return availabilityResponse(request);
+    }
+
+    @PostMapping("/availability")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getAvailability(@Valid @RequestBody StockAvailabilityRequest request) {
+        return availabilityResponse(request);
+    }
+
     @GetMapping("/{stockId}")
     public ResponseEntity<ApiResponse<StockResponse>> getStock(@PathVariable String stockId) {
         Stock stock = stockService.getStock(stockId);
@@ -49,8 +81,11 @@ public class StockApi {
 
     @PatchMapping("/{stockId}/increase")
     public ResponseEntity<ApiResponse<Long>> increaseStock(@PathVariable String stockId,
-                                                           @Valid @RequestBody StockUpdateRequest request) {
-        Long increaseQuantity = stockService.increaseQuantity(stockId, request.getQuantity());
+                                                           @Valid @RequestBody StockUpdateRequest request,
+                                                           @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        Long increaseQuantity = idempotencyKey == null
+                ? stockService.increaseQuantity(stockId, request.getQuantity())
+                : stockService.increaseQuantity(stockId, request.getQuantity(), idempotencyKey);
 
         return ResponseEntity.ok()
                 .body(ApiResponse.success("재고가 성공적으로 증가되었습니다.", increaseQuantity));
@@ -58,10 +93,42 @@ public class StockApi {
 
     @PatchMapping("/{stockId}/decrease")
     public ResponseEntity<ApiResponse<Long>> decreaseStock(@PathVariable String stockId,
-                                                           @Valid @RequestBody StockUpdateRequest request) {
-        Long decreaseQuantity = stockService.decreaseQuantity(stockId, request.getQuantity());
+                                                           @Valid @RequestBody StockUpdateRequest request,
+                                                           @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        Long decreaseQuantity = idempotencyKey == null
+                ? stockService.decreaseQuantity(stockId, request.getQuantity())
+                : stockService.decreaseQuantity(stockId, request.getQuantity(), idempotencyKey);
 
         return ResponseEntity.ok()
                     .body(ApiResponse.success("재고가 성공적으로 감소되었습니다.", decreaseQuantity));
     }
+
+    @PatchMapping("/batch/increase")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> increaseStocks(@Valid @RequestBody StockBatchUpdateRequest request,
+                                                                         @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        Map<String, Long> increasedQuantities = idempotencyKey == null
+                ? stockService.increaseQuantities(request.toQuantities())
+                : stockService.increaseQuantities(request.toQuantities(), idempotencyKey);
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success("재고가 일괄 증가되었습니다.", increasedQuantities));
+    }
+
+    @PatchMapping("/batch/decrease")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> decreaseStocks(@Valid @RequestBody StockBatchUpdateRequest request,
+                                                                         @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        Map<String, Long> decreasedQuantities = idempotencyKey == null
+                ? stockService.decreaseQuantities(request.toQuantities())
+                : stockService.decreaseQuantities(request.toQuantities(), idempotencyKey);
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success("재고가 일괄 감소되었습니다.", decreasedQuantities));
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, Long>>> availabilityResponse(StockAvailabilityRequest request) {
+        Map<String, Long> quantities = stockService.checkQuantities(request.getSkus());
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success("재고 수량 일괄 조회 성공", quantities));
+    }
 }
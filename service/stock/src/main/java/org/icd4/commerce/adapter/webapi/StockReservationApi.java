@@ -0,0 +1,43 @@
+package org.icd4.commerce.adapter.webapi;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.adapter.webapi.dto.ApiResponse;
+import org.icd4.commerce.adapter.webapi.dto.StockReservationRequest;
+import org.icd4.commerce.adapter.webapi.dto.StockReservationResponse;
+import org.icd4.commerce.application.provided.StockReserver;
+import org.icd4.commerce.domain.StockReservation;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stocks/reservations")
+@RequiredArgsConstructor
+public class StockReservationApi {
+    private final StockReserver stockReserver;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<StockReservationResponse>> reserve(@Valid @RequestBody StockReservationRequest request) {
+        StockReservation reservation = stockReserver.reserve(request.getSku(), request.getQuantity());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("재고가 성공적으로 선점되었습니다.", StockReservationResponse.from(reservation)));
+    }
+
+    @PatchMapping("/{reservationId}/commit")
+    public ResponseEntity<ApiResponse<StockReservationResponse>> commit(@PathVariable String reservationId) {
+        StockReservation reservation = stockReserver.commit(reservationId);
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success("재고 선점이 확정되었습니다.", StockReservationResponse.from(reservation)));
+    }
+
+    @PatchMapping("/{reservationId}/release")
+    public ResponseEntity<ApiResponse<StockReservationResponse>> release(@PathVariable String reservationId) {
+        StockReservation reservation = stockReserver.release(reservationId);
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success("재고 선점이 해제되었습니다.", StockReservationResponse.from(reservation)));
+    }
+}
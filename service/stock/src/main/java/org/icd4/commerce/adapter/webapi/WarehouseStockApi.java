@@ -0,0 +1,64 @@
+package org.icd4.commerce.adapter.webapi;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.adapter.webapi.dto.ApiResponse;
+import org.icd4.commerce.adapter.webapi.dto.StockAllocationRequest;
+import org.icd4.commerce.adapter.webapi.dto.WarehouseRegisterRequest;
+import org.icd4.commerce.adapter.webapi.dto.WarehouseResponse;
+import org.icd4.commerce.adapter.webapi.dto.WarehouseStockReceiveRequest;
+import org.icd4.commerce.adapter.webapi.dto.WarehouseStockResponse;
+import org.icd4.commerce.application.provided.WarehouseStockManager;
+import org.icd4.commerce.domain.Warehouse;
+import org.icd4.commerce.domain.WarehouseAllocation;
+import org.icd4.commerce.domain.WarehouseStock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class WarehouseStockApi {
+    private final WarehouseStockManager warehouseStockManager;
+
+    @PostMapping("/warehouses")
+    public ResponseEntity<ApiResponse<WarehouseResponse>> registerWarehouse(@Valid @RequestBody WarehouseRegisterRequest request) {
+        Warehouse warehouse = warehouseStockManager.registerWarehouse(
+                request.getWarehouseId(), request.getName(), request.getLatitude(), request.getLongitude());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("창고가 등록되었습니다.", WarehouseResponse.from(warehouse)));
+    }
+
+    @PostMapping("/warehouses/{warehouseId}/stocks")
+    public ResponseEntity<ApiResponse<WarehouseStockResponse>> receive(@PathVariable String warehouseId,
+                                                                       @Valid @RequestBody WarehouseStockReceiveRequest request) {
+        WarehouseStock warehouseStock = warehouseStockManager.receive(warehouseId, request.getSku(), request.getQuantity());
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success("창고에 재고가 입고되었습니다.", WarehouseStockResponse.from(warehouseStock)));
+    }
+
+    @GetMapping("/stocks/{sku}/warehouses")
+    public ResponseEntity<ApiResponse<List<WarehouseStockResponse>>> getWarehouseStocks(@PathVariable String sku) {
+        List<WarehouseStockResponse> response = warehouseStockManager.getWarehouseStocks(sku).stream()
+                .map(WarehouseStockResponse::from)
+                .toList();
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success("창고별 재고 조회 성공", response));
+    }
+
+    @PostMapping("/stocks/{sku}/allocations")
+    public ResponseEntity<ApiResponse<List<WarehouseAllocation>>> allocate(@PathVariable String sku,
+                                                                          @Valid @RequestBody StockAllocationRequest request) {
+        List<WarehouseAllocation> allocations = warehouseStockManager.allocate(
+                sku, request.getQuantity(), request.getLatitude(), request.getLongitude());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("출고 창고가 할당되었습니다.", allocations));
+    }
+}
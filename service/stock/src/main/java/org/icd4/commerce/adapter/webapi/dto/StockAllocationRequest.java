@@ -0,0 +1,32 @@
+package org.icd4.commerce.adapter.webapi.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 라인 하나의 출고 창고 할당 요청. 위도/경도는 배송지 위치입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAllocationRequest {
+
+    @NotNull(message = "수량은 필수입니다.")
+    @Positive(message = "수량은 0보다 커야 합니다.")
+    private Long quantity;
+
+    @NotNull(message = "위도는 필수입니다.")
+    @DecimalMin(value = "-90", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90", message = "위도는 90 이하여야 합니다.")
+    private Double latitude;
+
+    @NotNull(message = "경도는 필수입니다.")
+    @DecimalMin(value = "-180", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180", message = "경도는 180 이하여야 합니다.")
+    private Double longitude;
+}
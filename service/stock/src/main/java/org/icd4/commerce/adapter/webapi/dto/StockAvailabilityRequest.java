@@ -0,0 +1,22 @@
+package org.icd4.commerce.adapter.webapi.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter // GET 쿼리 파라미터(@ModelAttribute) 바인딩용
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAvailabilityRequest {
+
+    @NotEmpty(message = "조회할 SKU 목록은 필수 입니다.")
+    @Size(max = 1000, message = "한 번에 조회할 수 있는 SKU는 최대 1000개입니다.")
+    private List<@NotBlank(message = "SKU는 필수 입니다.") String> skus;
+}
@@ -0,0 +1,44 @@
+package org.icd4.commerce.adapter.webapi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBatchUpdateRequest {
+
+    @NotEmpty(message = "변경할 재고 목록은 필수 입니다.")
+    private List<@Valid Item> items;
+
+    /**
+     * 같은 SKU가 여러 번 포함된 경우 수량을 합산합니다.
+     */
+    public Map<String, Long> toQuantities() {
+        return items.stream()
+                .collect(Collectors.toMap(Item::getSku, Item::getQuantity, Long::sum));
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotBlank(message = "SKU는 필수 입니다.")
+        private String sku;
+
+        @NotNull(message = "수량은 필수 입니다.")
+        @Positive(message = "수량은 0보다 커야 합니다.")
+        private Long quantity;
+    }
+}
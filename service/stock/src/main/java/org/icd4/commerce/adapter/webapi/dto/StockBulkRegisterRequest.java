@@ -0,0 +1,30 @@
+package org.icd4.commerce.adapter.webapi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBulkRegisterRequest {
+
+    @NotEmpty(message = "등록할 재고 목록은 필수 입니다.")
+    private List<@Valid StockRegisterRequest> stocks;
+
+    public Map<String, Long> toQuantities() {
+        Map<String, Long> quantities = new LinkedHashMap<>();
+        stocks.forEach(stock -> {
+            if (quantities.putIfAbsent(stock.getProductId(), stock.getQuantity()) != null) {
+                throw new IllegalArgumentException("중복된 SKU가 있습니다. sku: " + stock.getProductId());
+            }
+        });
+        return quantities;
+    }
+}
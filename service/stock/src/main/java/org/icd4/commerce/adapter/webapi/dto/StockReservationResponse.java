@@ -0,0 +1,38 @@
+package org.icd4.commerce.adapter.webapi.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.icd4.commerce.domain.ReservationStatus;
+import org.icd4.commerce.domain.StockReservation;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationResponse {
+
+    private String reservationId;
+    private String sku;
+    private Long quantity;
+    private ReservationStatus status;
+    private LocalDateTime expiresAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static StockReservationResponse from(StockReservation reservation) {
+        return StockReservationResponse.builder()
+                .reservationId(reservation.getId())
+                .sku(reservation.getSku())
+                .quantity(reservation.getQuantity())
+                .status(reservation.getStatus())
+                .expiresAt(reservation.getExpiresAt())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package org.icd4.commerce.adapter.webapi.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseRegisterRequest {
+
+    @NotBlank(message = "창고 ID는 필수 입니다.")
+    private String warehouseId;
+
+    @NotBlank(message = "창고 이름은 필수 입니다.")
+    private String name;
+
+    @NotNull(message = "위도는 필수입니다.")
+    @DecimalMin(value = "-90", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90", message = "위도는 90 이하여야 합니다.")
+    private Double latitude;
+
+    @NotNull(message = "경도는 필수입니다.")
+    @DecimalMin(value = "-180", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180", message = "경도는 180 이하여야 합니다.")
+    private Double longitude;
+}
@@ -0,0 +1,33 @@
+package org.icd4.commerce.adapter.webapi.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.icd4.commerce.domain.Warehouse;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseResponse {
+
+    private String warehouseId;
+    private String name;
+    private double latitude;
+    private double longitude;
+    private LocalDateTime createdAt;
+
+    public static WarehouseResponse from(Warehouse warehouse) {
+        return WarehouseResponse.builder()
+                .warehouseId(warehouse.getId())
+                .name(warehouse.getName())
+                .latitude(warehouse.getLatitude())
+                .longitude(warehouse.getLongitude())
+                .createdAt(warehouse.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package org.icd4.commerce.adapter.webapi.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.icd4.commerce.domain.WarehouseStock;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseStockResponse {
+
+    private String warehouseId;
+    private String sku;
+    private Long quantity;
+    private LocalDateTime updatedAt;
+
+    public static WarehouseStockResponse from(WarehouseStock warehouseStock) {
+        return WarehouseStockResponse.builder()
+                .warehouseId(warehouseStock.getWarehouseId())
+                .sku(warehouseStock.getSku())
+                .quantity(warehouseStock.getQuantity())
+                .updatedAt(warehouseStock.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package org.icd4.commerce.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.provided.StockRegister;
+import org.icd4.commerce.application.provided.StockReserver;
+import org.icd4.commerce.application.required.StockReservationRepository;
+import org.icd4.commerce.application.reservation.ReservationExpiryQueue;
+import org.icd4.commerce.domain.ReservationStatus;
+import org.icd4.commerce.domain.StockReservation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockReservationService implements StockReserver {
+    private final StockRegister stockRegister;
+    private final StockReservationRepository stockReservationRepository;
+    private final ReservationExpiryQueue expiryQueue;
+
+    @Value("${stock.reservation.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Override
+    public StockReservation reserve(String sku, Long quantity) {
+        StockReservation reservation = StockReservation.reserve(sku, quantity, LocalDateTime.now().plusSeconds(ttlSeconds));
+        stockRegister.decreaseQuantity(sku, quantity, reservation.getId() + "-reserve");
+
+        stockReservationRepository.save(reservation);
+        scheduleExpiryAfterCommit(reservation);
+
+        return reservation;
+    }
+
+    @Override
+    public StockReservation commit(String reservationId) {
+        StockReservation reservation = getReservation(reservationId);
+        reservation.commit();
+        return stockReservationRepository.save(reservation);
+    }
+
+    @Override
+    public StockReservation release(String reservationId) {
+        StockReservation reservation = getReservation(reservationId);
+        reservation.release();
+        stockRegister.increaseQuantity(reservation.getSku(), reservation.getQuantity(), releaseKey(reservation));
+        return stockReservationRepository.save(reservation);
+    }
+
+    /**
+     * 만료 시점이 된 선점을 해제합니다. 이미 확정되었거나 해제된 선점은 무시합니다.
+     */
+    public void expire(String reservationId) {
+        stockReservationRepository.findById(reservationId)
+                .filter(StockReservation::isReserved)
+                .ifPresent(reservation -> {
+                    reservation.expire();
+                    stockRegister.increaseQuantity(reservation.getSku(), reservation.getQuantity(), releaseKey(reservation));
+                    stockReservationRepository.save(reservation);
+                    log.info("재고 선점 만료: reservationId={}, sku={}, quantity={}",
+                            reservationId, reservation.getSku(), reservation.getQuantity());
+                });
+    }
+
+    /**
+     * 기동 시 아직 선점 중인 내역을 만료 큐에 다시 등록합니다.
+     */
+    @Transactional(readOnly = true)
+    public void scheduleOutstandingReservations() {
+        stockReservationRepository.findAllByStatus(ReservationStatus.RESERVED)
+                .forEach(reservation -> expiryQueue.schedule(reservation.getId(), reservation.getExpiresAt()));
+    }
+
+    private StockReservation getReservation(String reservationId) {
+        return stockReservationRepository.findById(reservationId)
+                .orElseThrow(() -> new NoSuchElementException("재고 선점 내역을 찾을 수 없습니다. reservationId: " + reservationId));
+    }
+
+    /**
+     * 해제와 만료는 둘 중 하나만 일어나므로 같은 멱등 키를 사용해 재고가 두 번 복원되지 않도록 합니다.
+     */
+    private String releaseKey(StockReservation reservation) {
+        return reservation.getId() + "-release";
+    }
+
+    private void scheduleExpiryAfterCommit(StockReservation reservation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            expiryQueue.schedule(reservation.getId(), reservation.getExpiresAt());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                expiryQueue.schedule(reservation.getId(), reservation.getExpiresAt());
+            }
+        });
+    }
+}
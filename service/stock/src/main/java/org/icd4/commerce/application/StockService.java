@@ -1,44 +1,161 @@
 package org.icd4.commerce.application;
 
 import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.application.cache.StockQuantityCache;
+import org.icd4.commerce.application.counter.HotStockCounter;
+import org.icd4.commerce.application.event.StockChanged;
+import org.icd4.commerce.application.event.StockStatusChanged;
+import org.icd4.commerce.application.idempotency.IdempotencyStore;
+import org.icd4.commerce.application.ledger.StockLedger;
 import org.icd4.commerce.application.provided.StockFinder;
 import org.icd4.commerce.application.provided.StockRegister;
 import org.icd4.commerce.application.required.StockRepository;
+import org.icd4.commerce.application.retry.OptimisticRetryExecutor;
 import org.icd4.commerce.domain.Stock;
+import org.icd4.commerce.domain.StockMovementReason;
+import org.icd4.commerce.domain.StockStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class StockService implements StockRegister, StockFinder {
     private final StockRepository stockRepository;
+    private final HotStockCounter hotStockCounter;
+    private final IdempotencyStore idempotencyStore;
+    private final StockLedger stockLedger;
+    private final StockQuantityCache stockQuantityCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    /**
+     * 수량 변경 메서드는 버전 충돌 시 트랜잭션 밖에서 다시 시도할 수 있도록 SUPPORTS로 두고,
+     * 시도마다 retryExecutor가 트랜잭션을 새로 엽니다. 호출한 쪽의 트랜잭션이 있으면 그대로 참여합니다.
+     */
+    private final OptimisticRetryExecutor retryExecutor;
+
+    /**
+     * true면 단건 증감을 엔티티 조회/저장 대신 조건부 UPDATE 한 문장으로 처리합니다.
+     */
+    @Value("${stock.conditional-update.enabled:false}")
+    private boolean conditionalUpdate;
 
     @Override
     public Stock register(String productId, Long quantity) {
+        if (stockRepository.existsBySku(productId)) {
+            throw new IllegalArgumentException("이미 등록된 SKU입니다. sku: " + productId);
+        }
         Stock stock = Stock.register(productId, quantity);
 
         stockRepository.save(stock);
+        stockLedger.recordApplied(stock.getSku(), quantity, StockMovementReason.REGISTER, null);
+        applicationEventPublisher.publishEvent(new StockChanged(stock.getSku()));
 
         return stock;
     }
 
     @Override
-    public Long increaseQuantity(String sku, Long quantity) {
-        return stockRepository.findBySku(sku)
-                .map(entity -> increaseQuantityAndSave(quantity, entity))
-                .orElseThrow(() -> new IllegalArgumentException("Stock not found: " + sku));
+    public List<Stock> registerAll(Map<String, Long> quantities) {
+        List<String> registeredSkus = stockRepository.findSkusBySkuIn(quantities.keySet());
+        if (!registeredSkus.isEmpty()) {
+            throw new IllegalArgumentException("이미 등록된 SKU입니다. sku: " + registeredSkus);
+        }
+        List<Stock> stocks = quantities.entrySet().stream()
+                .map(entry -> Stock.register(entry.getKey(), entry.getValue()))
+                .toList();
+
+        stockRepository.saveAll(stocks);
+        stocks.forEach(stock -> {
+            stockLedger.recordApplied(stock.getSku(), stock.getQuantity(), StockMovementReason.REGISTER, null);
+            applicationEventPublisher.publishEvent(new StockChanged(stock.getSku()));
+        });
+
+        return stocks;
     }
 
+    @Override
+    public List<Stock> registerAll(Map<String, Long> quantities, String idempotencyKey) {
+        List<Stock> registered = new ArrayList<>();
+        idempotent(idempotencyKey, quantities, StockMovementReason.REGISTER, () -> {
+            registered.addAll(registerAll(quantities));
+            return registered.stream().collect(Collectors.toMap(Stock::getSku, Stock::getQuantity));
+        });
+        return registered.isEmpty()
+                ? stockRepository.findAllBySkuInOrderBySkuAsc(quantities.keySet())
+                : registered;
+    }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Long increaseQuantity(String sku, Long quantity) {
+        return retryExecutor.execute(() -> changeQuantity(sku, quantity, false, null));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long decreaseQuantity(String stockId, Long quantity) {
-        return stockRepository.findBySku(stockId)
-                .map(entity -> decreaseQuantityAndSave(quantity, entity))
-                .orElseThrow(() -> new IllegalArgumentException("Stock not found: " + stockId));
+        return retryExecutor.execute(() -> changeQuantity(stockId, quantity, true, null));
+    }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Long> increaseQuantities(Map<String, Long> quantities) {
+        return retryExecutor.execute(() -> changeQuantities(quantities, false, null));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Long> decreaseQuantities(Map<String, Long> quantities) {
+        return retryExecutor.execute(() -> changeQuantities(quantities, true, null));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Long increaseQuantity(String sku, Long quantity, String idempotencyKey) {
+        return retryExecutor.execute(() ->
+                idempotent(idempotencyKey, sku, StockMovementReason.INCREASE, quantity,
+                        () -> changeQuantity(sku, quantity, false, idempotencyKey)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Long decreaseQuantity(String sku, Long quantity, String idempotencyKey) {
+        return retryExecutor.execute(() ->
+                idempotent(idempotencyKey, sku, StockMovementReason.DECREASE, quantity,
+                        () -> changeQuantity(sku, quantity, true, idempotencyKey)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Long> increaseQuantities(Map<String, Long> quantities, String idempotencyKey) {
+        return retryExecutor.execute(() ->
+                idempotent(idempotencyKey, quantities, StockMovementReason.INCREASE,
+                        () -> changeQuantities(quantities, false, idempotencyKey)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Long> decreaseQuantities(Map<String, Long> quantities, String idempotencyKey) {
+        return retryExecutor.execute(() ->
+                idempotent(idempotencyKey, quantities, StockMovementReason.DECREASE,
+                        () -> changeQuantities(quantities, true, idempotencyKey)));
     }
 
     @Override
@@ -47,22 +164,216 @@ public class StockService implements StockRegister, StockFinder {
                 .orElseThrow(() -> new NoSuchElementException("재고를 찾을 수 없습니다. stockId: " + stockId));
     }
 
+    /**
+     * 현재 재고 = 스냅샷(Stock.quantity) + 아직 스냅샷에 반영되지 않은 원장 변경분
+     */
     @Override
+    @Transactional(readOnly = true)
     public Long checkQuantity(String stockId) {
-        return stockRepository.findBySku(stockId)
-                .map(Stock::checkQuantity)
-                .orElseThrow(() -> new NoSuchElementException("재고를 찾을 수 없습니다. stockId: " + stockId));
+        if (hotStockCounter.isHot(stockId)) {
+            return hotStockCounter.quantityOf(stockId, () -> loadQuantity(stockId));
+        }
+        return stockQuantityCache.get(stockId, () -> stockRepository.findCurrentQuantityBySku(stockId)
+                .orElseThrow(() -> new NoSuchElementException("재고를 찾을 수 없습니다. stockId: " + stockId)));
     }
 
-    private Long increaseQuantityAndSave(Long quantity, Stock entity) {
-        entity.increaseQuantity(quantity);
-        Stock stock = stockRepository.save(entity);
-        return stock.getQuantity();
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> checkQuantities(Collection<String> skus) {
+        Map<String, Long> quantities = new TreeMap<>();
+        stockRepository.findCurrentQuantitiesBySkuIn(skus)
+                .forEach(found -> quantities.put(found.getSku(), found.getQuantity()));
+
+        // 핫 SKU는 DB보다 메모리 카운터가 최신입니다.
+        quantities.replaceAll((sku, quantity) -> hotStockCounter.isHot(sku)
+                ? hotStockCounter.quantityOf(sku, () -> quantity)
+                : quantity);
+        return quantities;
+    }
+
+    private Long changeQuantity(String sku, Long quantity, boolean decrease, String referenceId) {
+        if (hotStockCounter.isHot(sku)) {
+            return changeHotQuantity(sku, quantity, decrease, referenceId);
+        }
+        if (conditionalUpdate) {
+            return changeQuantityConditionally(sku, quantity, decrease, referenceId);
+        }
+        return stockRepository.findBySku(sku)
+                .map(entity -> changeQuantityAndSave(entity, quantity, decrease, referenceId))
+                .orElseThrow(() -> new IllegalArgumentException("Stock not found: " + sku));
+    }
+
+    /**
+     * 여러 SKU의 재고를 하나의 트랜잭션에서 모두 변경하거나, 하나라도 실패하면 모두 되돌립니다.
+     * 교착 상태를 막기 위해 SKU 오름차순으로 잠금을 획득하고 변경합니다.
+     */
+    private Map<String, Long> changeQuantities(Map<String, Long> quantities, boolean decrease, String referenceId) {
+        SortedMap<String, Long> ordered = new TreeMap<>(quantities);
+        List<String> lockTargets = ordered.keySet().stream()
+                .filter(sku -> !hotStockCounter.isHot(sku))
+                .toList();
+        Map<String, Stock> lockedStocks = lockTargets.isEmpty() ? Map.of() :
+                stockRepository.findAllBySkuInOrderBySkuAsc(lockTargets).stream()
+                        .collect(Collectors.toMap(Stock::getSku, Function.identity()));
+
+        // 일부 SKU만 변경된 채로 실패하지 않도록 DB 재고를 먼저 모두 검증합니다.
+        lockTargets.forEach(sku -> {
+            Stock stock = lockedStocks.get(sku);
+            if (stock == null) {
+                throw new IllegalArgumentException("Stock not found: " + sku);
+            }
+            if (decrease) {
+                stock.validateDecrease(ordered.get(sku));
+            } else {
+                stock.validateIncrease(ordered.get(sku));
+            }
+        });
+
+        // 핫 SKU는 카운터에서 실패할 수 있으므로 먼저 처리하고, 실패 시 롤백과 함께 카운터도 되돌립니다.
+        Map<String, Long> changed = new TreeMap<>();
+        ordered.forEach((sku, quantity) -> {
+            if (hotStockCounter.isHot(sku)) {
+                changed.put(sku, changeHotQuantity(sku, quantity, decrease, referenceId));
+            }
+        });
+        lockTargets.forEach(sku ->
+                changed.put(sku, changeQuantityAndSave(lockedStocks.get(sku), ordered.get(sku), decrease, referenceId)));
+        return changed;
+    }
+
+    private Long idempotent(String idempotencyKey, String sku, StockMovementReason operation, Long quantity,
+                            Supplier<Long> change) {
+        Optional<Long> processed = idempotencyStore.find(idempotencyKey, sku, operation, quantity);
+        if (processed.isPresent()) {
+            return processed.get();
+        }
+        Long changed = change.get();
+        idempotencyStore.record(idempotencyKey, sku, operation, quantity, changed);
+        return changed;
+    }
+
+    /**
+     * 일괄 변경은 SKU마다 "멱등키#SKU" 형태의 키로 결과를 기록합니다.
+     * 일괄 변경은 전부 반영되거나 전부 롤백되므로, 모든 SKU의 기록이 있을 때만 처리된 요청으로 봅니다.
+     */
+    private Map<String, Long> idempotent(String idempotencyKey, Map<String, Long> quantities,
+                                         StockMovementReason operation, Supplier<Map<String, Long>> change) {
+        Map<String, Long> processed = new TreeMap<>();
+        quantities.forEach((sku, quantity) ->
+                idempotencyStore.find(batchKey(idempotencyKey, sku), sku, operation, quantity)
+                        .ifPresent(result -> processed.put(sku, result)));
+        if (processed.size() == quantities.size()) {
+            return processed;
+        }
+        Map<String, Long> changed = change.get();
+        changed.forEach((sku, result) -> idempotencyStore.record(
+                batchKey(idempotencyKey, sku), sku, operation, quantities.get(sku), result));
+        return changed;
+    }
+
+    private String batchKey(String idempotencyKey, String sku) {
+        return idempotencyKey + "#" + sku;
     }
 
-    private Long decreaseQuantityAndSave(Long quantity, Stock entity) {
-        entity.decreaseQuantity(quantity);
+    /**
+     * 핫 SKU의 상태 전이는 스냅샷 반영을 기다리지 않고 카운터가 임계치를 넘는 순간 발행합니다.
+     * CAS로 변경 전후 수량이 정확히 정해지므로, 동시에 차감되어도 하나의 전이는 한 번만 발행됩니다.
+     * 임계치는 등록 시 기본값({@link Stock#DEFAULT_LOW_STOCK_THRESHOLD})을 사용합니다.
+     */
+    private Long changeHotQuantity(String sku, Long quantity, boolean decrease, String referenceId) {
+        long changed = decrease
+                ? hotStockCounter.decrease(sku, quantity, () -> loadQuantity(sku))
+                : hotStockCounter.increase(sku, quantity, () -> loadQuantity(sku));
+        long delta = decrease ? -quantity : quantity;
+        appendOrRevertOnRollback(sku, delta, reasonOf(decrease), referenceId);
+        applicationEventPublisher.publishEvent(new StockChanged(sku));
+
+        StockStatus previousStatus = StockStatus.of(changed - delta, Stock.DEFAULT_LOW_STOCK_THRESHOLD);
+        StockStatus status = StockStatus.of(changed, Stock.DEFAULT_LOW_STOCK_THRESHOLD);
+        if (previousStatus != status) {
+            applicationEventPublisher.publishEvent(new StockStatusChanged(sku, previousStatus, status, changed));
+        }
+        return changed;
+    }
+
+    private Long loadQuantity(String sku) {
+        return stockRepository.findCurrentQuantityBySku(sku)
+                .orElseThrow(() -> new IllegalArgumentException("Stock not found: " + sku));
+    }
+
+    /**
+     * 변경분은 요청과 같은 트랜잭션에 원장으로 남겨, 커밋된 변경이 프로세스 종료로 유실되지 않게 합니다.
+     * 카운터 변경은 트랜잭션에 묶이지 않으므로, 이력 저장이나 같은 트랜잭션의 다른 작업(재고 선점 저장 등)이
+     * 실패해 롤백되면 카운터 변경을 되돌립니다.
+     */
+    private void appendOrRevertOnRollback(String sku, long delta, StockMovementReason reason, String referenceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                stockLedger.append(sku, delta, reason, referenceId);
+            } catch (RuntimeException e) {
+                hotStockCounter.revert(sku, -delta);
+                throw e;
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    hotStockCounter.revert(sku, -delta);
+                }
+            }
+        });
+        stockLedger.append(sku, delta, reason, referenceId);
+    }
+
+    private Long changeQuantityAndSave(Stock entity, Long quantity, boolean decrease, String referenceId) {
+        StockStatus previousStatus = entity.getStockStatus();
+        if (decrease) {
+            entity.decreaseQuantity(quantity);
+        } else {
+            entity.increaseQuantity(quantity);
+        }
         Stock stock = stockRepository.save(entity);
+        afterQuantityChanged(stock.getSku(), decrease ? -quantity : quantity, referenceId,
+                previousStatus, stock.getStockStatus(), stock.getQuantity());
         return stock.getQuantity();
     }
+
+    /**
+     * 엔티티를 읽지 않고 조건부 UPDATE 한 문장으로 변경합니다.
+     * 행 잠금은 UPDATE 문이 잡고 재고 검증은 WHERE 절이 하므로, 버전 충돌로 재시도할 일이 없습니다.
+     */
+    private Long changeQuantityConditionally(String sku, Long quantity, boolean decrease, String referenceId) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("재고는 0 이하의 값이 될 수 없습니다.");
+        }
+        int updated = decrease
+                ? stockRepository.decreaseQuantityIfAvailable(sku, quantity, LocalDateTime.now())
+                : stockRepository.increaseQuantityBySku(sku, quantity, LocalDateTime.now());
+        StockRepository.StockLevel level = stockRepository.findStockLevelBySku(sku)
+                .orElseThrow(() -> new IllegalArgumentException("Stock not found: " + sku));
+        if (updated == 0) {
+            throw new IllegalArgumentException("요청한 수량이 현재 재고보다 많습니다. 현재 재고: " + level.getQuantity());
+        }
+
+        long delta = decrease ? -quantity : quantity;
+        StockStatus previousStatus = StockStatus.of(level.getQuantity() - delta, level.getLowStockThreshold());
+        afterQuantityChanged(sku, delta, referenceId, previousStatus, level.getStockStatus(), level.getQuantity());
+        return level.getQuantity();
+    }
+
+    private void afterQuantityChanged(String sku, long delta, String referenceId,
+                                      StockStatus previousStatus, StockStatus status, long quantity) {
+        stockQuantityCache.invalidate(sku);
+        stockLedger.recordApplied(sku, delta, reasonOf(delta < 0), referenceId);
+        applicationEventPublisher.publishEvent(new StockChanged(sku));
+        if (previousStatus != status) {
+            applicationEventPublisher.publishEvent(new StockStatusChanged(sku, previousStatus, status, quantity));
+        }
+    }
+
+    private StockMovementReason reasonOf(boolean decrease) {
+        return decrease ? StockMovementReason.DECREASE : StockMovementReason.INCREASE;
+    }
 }
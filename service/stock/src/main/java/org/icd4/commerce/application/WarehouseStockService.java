@@ -0,0 +1,131 @@
+package org.icd4.commerce.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.provided.StockRegister;
+import org.icd4.commerce.application.provided.WarehouseStockManager;
+import org.icd4.commerce.application.required.StockRepository;
+import org.icd4.commerce.application.required.WarehouseRepository;
+import org.icd4.commerce.application.required.WarehouseStockRepository;
+import org.icd4.commerce.application.warehouse.WarehouseStockIndex;
+import org.icd4.commerce.domain.Warehouse;
+import org.icd4.commerce.domain.WarehouseAllocation;
+import org.icd4.commerce.domain.WarehouseStock;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 창고별 재고 입고와 출고 창고 할당.
+ *
+ * <p>SKU 전체 재고(Stock)는 판매 가능 수량이고, 창고별 재고(WarehouseStock)는 창고에 실제로 있는 수량입니다.</p>
+ * <ul>
+ *     <li>입고하면 새로 들어온 수량만큼 창고 재고와 판매 가능 수량이 함께 늘어납니다.</li>
+ *     <li>주문(차감, 예약, 핫 카운터)은 판매 가능 수량만 줄입니다.</li>
+ *     <li>할당은 이미 주문으로 차감된 수량을 어느 창고에서 출고할지 정하고 창고 재고만 줄입니다. 판매 가능 수량은 다시 차감하지 않습니다.</li>
+ * </ul>
+ * <p>따라서 창고 재고 합계는 판매 가능 수량에 "판매되었지만 아직 할당되지 않은 수량"을 더한 값이며,
+ * {@code /api/stocks}로만 등록된 SKU는 창고 재고가 없어 할당할 수 없습니다.</p>
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class WarehouseStockService implements WarehouseStockManager {
+    private final WarehouseRepository warehouseRepository;
+    private final WarehouseStockRepository warehouseStockRepository;
+    private final StockRepository stockRepository;
+    private final StockRegister stockRegister;
+    private final WarehouseStockIndex warehouseStockIndex;
+
+    @Override
+    public Warehouse registerWarehouse(String warehouseId, String name, double latitude, double longitude) {
+        if (warehouseRepository.existsById(warehouseId)) {
+            throw new IllegalArgumentException("이미 등록된 창고입니다. warehouseId: " + warehouseId);
+        }
+        Warehouse warehouse = warehouseRepository.save(Warehouse.register(warehouseId, name, latitude, longitude));
+        warehouseStockIndex.putWarehouse(warehouse);
+        return warehouse;
+    }
+
+    @Override
+    public WarehouseStock receive(String warehouseId, String sku, Long quantity) {
+        if (!warehouseRepository.existsById(warehouseId)) {
+            throw new NoSuchElementException("창고를 찾을 수 없습니다. warehouseId: " + warehouseId);
+        }
+        WarehouseStock warehouseStock = warehouseStockRepository.findBySkuAndWarehouseId(sku, warehouseId)
+                .orElseGet(() -> WarehouseStock.create(warehouseId, sku));
+        warehouseStock.receive(quantity);
+        warehouseStockRepository.save(warehouseStock);
+
+        if (stockRepository.existsBySku(sku)) {
+            stockRegister.increaseQuantity(sku, quantity);
+        } else {
+            stockRegister.register(sku, quantity);
+        }
+        evictOnRollback(sku);
+        warehouseStockIndex.apply(sku, warehouseId, quantity);
+        return warehouseStock;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WarehouseStock> getWarehouseStocks(String sku) {
+        return warehouseStockRepository.findAllBySku(sku);
+    }
+
+    @Override
+    public List<WarehouseAllocation> allocate(String sku, Long quantity, double latitude, double longitude) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("할당 수량은 0 이하가 될 수 없습니다.");
+        }
+        evictOnRollback(sku);
+        List<WarehouseAllocation> allocations = warehouseStockIndex.plan(sku, quantity, latitude, longitude,
+                warehouseRepository::findAll,
+                () -> warehouseStockRepository.findAllBySku(sku));
+
+        Map<String, WarehouseStock> locked = warehouseStockRepository
+                .findAllBySkuAndWarehouseIdInOrderByWarehouseIdAsc(sku,
+                        allocations.stream().map(WarehouseAllocation::warehouseId).toList())
+                .stream()
+                .collect(Collectors.toMap(WarehouseStock::getWarehouseId, Function.identity()));
+
+        // 인덱스가 DB보다 앞서거나 뒤처져 있어도, 잠금을 건 행에서 다시 검증하므로 초과 할당되지 않습니다.
+        allocations.forEach(allocation -> {
+            WarehouseStock warehouseStock = locked.get(allocation.warehouseId());
+            if (warehouseStock == null) {
+                throw new IllegalArgumentException("창고 재고를 찾을 수 없습니다. warehouseId: " + allocation.warehouseId());
+            }
+            warehouseStock.allocate(allocation.quantity());
+        });
+
+        allocations.forEach(allocation -> warehouseStockIndex.apply(sku, allocation.warehouseId(), -allocation.quantity()));
+        log.info("창고 할당: sku={}, quantity={}, allocations={}", sku, quantity, allocations);
+        return allocations;
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 해당 SKU를 인덱스에서 비워, 다음 조회 때 DB에서 다시 적재하도록 합니다.
+     * 롤백된 변경분뿐 아니라 롤백된 트랜잭션 안에서 적재된 값도 함께 버려집니다.
+     */
+    private void evictOnRollback(String sku) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    warehouseStockIndex.evict(sku);
+                }
+            }
+        });
+    }
+}
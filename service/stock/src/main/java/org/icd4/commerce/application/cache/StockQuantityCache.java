@@ -0,0 +1,125 @@
+package org.icd4.commerce.application.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * SKU → 현재 재고 수량을 보관하는 크기 제한 LRU 캐시 (read-through).
+ *
+ * <p>재고 변경 시 즉시 무효화하고, 커밋(또는 롤백) 직후에 한 번 더 무효화합니다.
+ * 조회 중에 무효화가 일어났다면 조회한 값은 캐시에 올리지 않으며, 트랜잭션 안에서 조회한 값은
+ * 커밋된 뒤에만 올리므로 롤백된 변경이 캐시에 남지 않습니다.</p>
+ *
+ * <p>적중/미적중 횟수는 {@code stock.quantity.cache} 지표(result=hit|miss)로 노출됩니다.</p>
+ */
+@Component
+public class StockQuantityCache {
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Map<String, Long> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hits;
+    private final Counter misses;
+
+    public StockQuantityCache(@Value("${stock.quantity-cache.max-size:10000}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = Counter.builder("stock.quantity.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("stock.quantity.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("stock.quantity.cache.size", this, StockQuantityCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 수량을 반환하고, 없으면 loader로 조회한 값을 캐시에 올린 뒤 반환합니다.
+     */
+    public Long get(String sku, Supplier<Long> loader) {
+        Long cached;
+        synchronized (entries) {
+            cached = entries.get(sku);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long loadedGeneration = generations.get(stripeOf(sku));
+        Long loaded = loader.get();
+        putAfterCommit(sku, loaded, loadedGeneration);
+        return loaded;
+    }
+
+    public void invalidate(String sku) {
+        evict(sku);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(sku);
+            }
+        });
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public double hitCount() {
+        return hits.count();
+    }
+
+    public double missCount() {
+        return misses.count();
+    }
+
+    private void putAfterCommit(String sku, Long quantity, long loadedGeneration) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(sku, quantity, loadedGeneration);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(sku, quantity, loadedGeneration);
+            }
+        });
+    }
+
+    private void put(String sku, Long quantity, long loadedGeneration) {
+        synchronized (entries) {
+            if (generations.get(stripeOf(sku)) == loadedGeneration) {
+                entries.put(sku, quantity);
+            }
+        }
+    }
+
+    private void evict(String sku) {
+        synchronized (entries) {
+            generations.incrementAndGet(stripeOf(sku));
+            entries.remove(sku);
+        }
+    }
+
+    private int stripeOf(String sku) {
+        return Math.floorMod(sku.hashCode(), GENERATION_STRIPES);
+    }
+}
@@ -0,0 +1,99 @@
+package org.icd4.commerce.application.counter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 플래시 세일 등 트래픽이 몰리는 SKU(핫 SKU)의 재고를 메모리에서 관리하는 카운터.
+ *
+ * <p>핫 SKU의 증감은 DB 행 잠금 없이 CAS 루프로 처리되며, 변경분은 재고 원장(StockLedger)에
+ * 미반영 이력으로 쌓였다가 스냅샷 작업이 주기적으로 Stock 테이블에 합산합니다.</p>
+ *
+ * <p>CAS 조건(현재 재고 >= 요청 수량)을 만족할 때만 차감하므로 초과 판매가 발생하지 않습니다.
+ * 단, 핫 SKU의 모든 변경은 이 카운터를 거쳐야 하며 단일 인스턴스 배포를 전제로 합니다.</p>
+ */
+@Component
+public class HotStockCounter {
+    private final Set<String> hotSkus;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public HotStockCounter(@Value("${stock.hot-sku.skus:}") List<String> hotSkus) {
+        this.hotSkus = hotSkus.stream()
+                .map(String::trim)
+                .filter(sku -> !sku.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isHot(String sku) {
+        return hotSkus.contains(sku);
+    }
+
+    /**
+     * 재고를 증가시키고 증가 후 수량을 반환합니다.
+     *
+     * @param loader 카운터가 아직 적재되지 않았을 때 DB의 현재 수량을 읽어오는 함수
+     */
+    public long increase(String sku, Long quantity, Supplier<Long> loader) {
+        validateQuantity(quantity);
+        Counter counter = counterOf(sku, loader);
+        return counter.available.addAndGet(quantity);
+    }
+
+    /**
+     * 재고를 차감하고 차감 후 수량을 반환합니다.
+     * 현재 재고보다 많은 수량을 요청하면 아무것도 차감하지 않고 예외가 발생합니다.
+     */
+    public long decrease(String sku, Long quantity, Supplier<Long> loader) {
+        validateQuantity(quantity);
+        Counter counter = counterOf(sku, loader);
+        while (true) {
+            long current = counter.available.get();
+            if (current < quantity) {
+                throw new IllegalArgumentException("요청한 수량이 현재 재고보다 많습니다. 현재 재고: " + current);
+            }
+            if (counter.available.compareAndSet(current, current - quantity)) {
+                return current - quantity;
+            }
+        }
+    }
+
+    /**
+     * 롤백된 트랜잭션에서 이미 적용한 증감을 검증 없이 되돌립니다.
+     */
+    public void revert(String sku, long delta) {
+        Counter counter = counters.get(sku);
+        if (counter != null) {
+            counter.available.addAndGet(delta);
+        }
+    }
+
+    public long quantityOf(String sku, Supplier<Long> loader) {
+        return counterOf(sku, loader).available.get();
+    }
+
+    private Counter counterOf(String sku, Supplier<Long> loader) {
+        return counters.computeIfAbsent(sku, key -> new Counter(loader.get()));
+    }
+
+    private void validateQuantity(Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("재고는 0 이하의 값이 될 수 없습니다.");
+        }
+    }
+
+    private static final class Counter {
+        private final AtomicLong available;
+
+        private Counter(long initialQuantity) {
+            this.available = new AtomicLong(initialQuantity);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.icd4.commerce.application.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.provided.StockFinder;
+import org.icd4.commerce.application.required.StockChangePublisher;
+import org.icd4.commerce.event.stock.StockQuantityChangedEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고 변경을 모아 발행 주기마다 SKU당 하나의 이벤트로 합쳐 발행합니다.
+ *
+ * <p>주기 동안 변경된 SKU만 기억해 두었다가, 발행 시점에 현재 수량을 한 번에 조회해 발행하므로
+ * 하위 인덱서는 차감 한 번마다가 아니라 주기당 한 번, 항상 최신 수량으로 갱신됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockChangeCoalescer {
+    private final StockFinder stockFinder;
+    private final StockChangePublisher stockChangePublisher;
+    private final Set<String> changedSkus = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChanged event) {
+        changedSkus.add(event.sku());
+    }
+
+    @Scheduled(fixedDelayString = "${stock.change-event.flush-interval-ms:1000}")
+    public void flush() {
+        List<String> skus = drainChangedSkus();
+        if (skus.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, Long> quantities = stockFinder.checkQuantities(skus);
+            LocalDateTime now = LocalDateTime.now();
+            List<StockQuantityChangedEvent> events = quantities.entrySet().stream()
+                    .map(entry -> new StockQuantityChangedEvent(entry.getKey(), entry.getValue(), now))
+                    .toList();
+            stockChangePublisher.publish(events);
+        } catch (Exception e) {
+            log.error("[StockChangeCoalescer.flush()] skus={}", skus, e);
+            changedSkus.addAll(skus);
+        }
+    }
+
+    private List<String> drainChangedSkus() {
+        List<String> skus = new ArrayList<>();
+        for (String sku : changedSkus) {
+            if (changedSkus.remove(sku)) {
+                skus.add(sku);
+            }
+        }
+        return skus;
+    }
+}
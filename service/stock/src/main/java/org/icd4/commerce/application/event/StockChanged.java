@@ -0,0 +1,8 @@
+package org.icd4.commerce.application.event;
+
+/**
+ * 서비스 내부에서 재고 수량이 변경되었음을 알리는 이벤트.
+ * 커밋된 변경만 {@link StockChangeCoalescer}에 전달됩니다.
+ */
+public record StockChanged(String sku) {
+}
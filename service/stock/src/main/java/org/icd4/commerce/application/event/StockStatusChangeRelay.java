@@ -0,0 +1,38 @@
+package org.icd4.commerce.application.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.required.StockChangePublisher;
+import org.icd4.commerce.event.stock.StockStatusChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커밋된 재고 상태 전이를 외부로 발행합니다.
+ *
+ * <p>수량 변경과 달리 상태 전이는 모아서 보내지 않고 전이가 일어날 때마다 바로 발행하므로,
+ * 검색/상품 캐시는 판매 한 건마다가 아니라 판매 가능 여부가 바뀔 때만 반응하면 됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockStatusChangeRelay {
+    private final StockChangePublisher stockChangePublisher;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockStatusChanged(StockStatusChanged event) {
+        try {
+            stockChangePublisher.publishStatusChange(new StockStatusChangedEvent(
+                    event.sku(),
+                    event.previousStatus().name(),
+                    event.status().name(),
+                    event.quantity(),
+                    LocalDateTime.now()));
+        } catch (Exception e) {
+            log.error("[StockStatusChangeRelay.onStockStatusChanged()] sku={}, {} -> {}",
+                    event.sku(), event.previousStatus(), event.status(), e);
+        }
+    }
+}
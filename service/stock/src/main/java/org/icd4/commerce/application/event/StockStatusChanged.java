@@ -0,0 +1,10 @@
+package org.icd4.commerce.application.event;
+
+import org.icd4.commerce.domain.StockStatus;
+
+/**
+ * 서비스 내부에서 재고 상태가 전이되었음을 알리는 이벤트.
+ * 커밋된 전이만 {@link StockStatusChangeRelay}를 통해 외부로 발행됩니다.
+ */
+public record StockStatusChanged(String sku, StockStatus previousStatus, StockStatus status, long quantity) {
+}
@@ -0,0 +1,10 @@
+package org.icd4.commerce.application.idempotency;
+
+/**
+ * 같은 멱등 키의 요청이 동시에 처리되어, 먼저 처리된 요청의 기록과 기본 키가 충돌한 경우.
+ */
+public class DuplicateIdempotentRequestException extends RuntimeException {
+    public DuplicateIdempotentRequestException(String idempotencyKey, Throwable cause) {
+        super("같은 멱등 키의 요청이 이미 처리 중입니다. idempotencyKey: " + idempotencyKey, cause);
+    }
+}
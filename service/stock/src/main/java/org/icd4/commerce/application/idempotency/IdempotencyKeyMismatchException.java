@@ -0,0 +1,10 @@
+package org.icd4.commerce.application.idempotency;
+
+/**
+ * 이미 처리된 멱등 키가 다른 SKU, 다른 변경 종류나 수량의 요청에 다시 쓰인 경우.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super("이미 다른 요청에 사용된 멱등 키입니다. idempotencyKey: " + idempotencyKey);
+    }
+}
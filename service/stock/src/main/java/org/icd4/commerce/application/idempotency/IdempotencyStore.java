@@ -0,0 +1,143 @@
+package org.icd4.commerce.application.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.required.IdempotencyRecordRepository;
+import org.icd4.commerce.domain.IdempotencyRecord;
+import org.icd4.commerce.domain.StockMovementReason;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멱등 키 → 처리한 요청과 결과 수량을 보관하는 중복 요청 저장소.
+ *
+ * <p>최근 요청은 시간 단위 버킷으로 나뉜 메모리 링에서 바로 찾고, 링에서 밀려난 요청은
+ * {@link IdempotencyRecord} 테이블에서 찾습니다. 링은 버킷 수 × 버킷 길이만큼의 요청만 기억하며,
+ * 가장 오래된 버킷은 새 시간 구간이 시작될 때 통째로 비워집니다.</p>
+ *
+ * <p>기록은 재고 변경과 같은 트랜잭션에서 저장되므로, 변경이 롤백되면 기록도 남지 않습니다.
+ * 기록은 항상 INSERT 되므로(merge 하지 않음), 같은 키의 요청이 조회 시점에 서로를 보지 못하고 동시에 처리되더라도
+ * 먼저 커밋된 요청만 성공하고 나머지는 기본 키 충돌로 롤백됩니다.</p>
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Bucket[] buckets;
+    private final long bucketMillis;
+    private final int maxEntriesPerBucket;
+    private final long retentionHours;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            @Value("${stock.idempotency.buckets:10}") int bucketCount,
+                            @Value("${stock.idempotency.bucket-seconds:60}") long bucketSeconds,
+                            @Value("${stock.idempotency.max-entries-per-bucket:10000}") int maxEntriesPerBucket,
+                            @Value("${stock.idempotency.retention-hours:24}") long retentionHours) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.bucketMillis = bucketSeconds * 1000;
+        this.maxEntriesPerBucket = maxEntriesPerBucket;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 이미 처리된 요청이면 그때의 결과 수량을 반환합니다.
+     *
+     * @throws IdempotencyKeyMismatchException 같은 키로 다른 SKU, 변경 종류, 수량의 요청이 처리된 경우
+     */
+    public Optional<Long> find(String idempotencyKey, String sku, StockMovementReason operation, Long requestedQuantity) {
+        return findRecord(idempotencyKey).map(record -> {
+            if (!record.matches(sku, operation, requestedQuantity)) {
+                throw new IdempotencyKeyMismatchException(idempotencyKey);
+            }
+            return record.getResultQuantity();
+        });
+    }
+
+    /**
+     * 처리 결과를 현재 트랜잭션에 기록하고, 커밋된 뒤에 메모리 링에도 올립니다.
+     *
+     * @throws DuplicateIdempotentRequestException 같은 키의 요청이 먼저 기록된 경우 (현재 트랜잭션은 롤백되어야 합니다)
+     */
+    public void record(String idempotencyKey, String sku, StockMovementReason operation,
+                       Long requestedQuantity, Long resultQuantity) {
+        IdempotencyRecord record = IdempotencyRecord.of(idempotencyKey, sku, operation, requestedQuantity, resultQuantity);
+        try {
+            // 커밋 시점까지 미루지 않고 바로 INSERT 해, 기본 키 충돌을 여기서 멱등 키 중복으로 구분합니다.
+            idempotencyRecordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateIdempotentRequestException(idempotencyKey, e);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(record);
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 기록을 테이블에서 삭제합니다.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${stock.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteAllCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("만료된 멱등 기록 삭제: count={}", deleted);
+        }
+    }
+
+    private Optional<IdempotencyRecord> findRecord(String idempotencyKey) {
+        long currentEpoch = currentEpoch();
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch > currentEpoch - buckets.length) {
+                IdempotencyRecord record = bucket.entries.get(idempotencyKey);
+                if (record != null) {
+                    return Optional.of(record);
+                }
+            }
+        }
+        return idempotencyRecordRepository.findById(idempotencyKey);
+    }
+
+    private void remember(IdempotencyRecord record) {
+        long currentEpoch = currentEpoch();
+        Bucket bucket = buckets[(int) (currentEpoch % buckets.length)];
+        synchronized (bucket) {
+            if (bucket.epoch != currentEpoch) {
+                bucket.entries.clear();
+                bucket.epoch = currentEpoch;
+            }
+            if (bucket.entries.size() < maxEntriesPerBucket) {
+                bucket.entries.put(record.getIdempotencyKey(), record);
+            }
+        }
+    }
+
+    private long currentEpoch() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private static final class Bucket {
+        private final Map<String, IdempotencyRecord> entries = new ConcurrentHashMap<>();
+        private volatile long epoch = -1;
+    }
+}
@@ -0,0 +1,36 @@
+package org.icd4.commerce.application.ledger;
+
+import lombok.RequiredArgsConstructor;
+import org.icd4.commerce.application.required.StockMovementRepository;
+import org.icd4.commerce.domain.StockMovement;
+import org.icd4.commerce.domain.StockMovementReason;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 변경 이력(StockMovement)을 기록하는 원장.
+ *
+ * <p>모든 이력은 변경을 일으킨 요청과 같은 트랜잭션에 insert 되므로, 커밋된 변경은 프로세스가 종료되어도 사라지지 않습니다.
+ * DB 행을 직접 변경하는 경로는 반영 완료 이력을, 핫 SKU처럼 메모리 카운터로 처리하는 경로는
+ * {@link StockSnapshotCompactor}가 나중에 합산할 미반영 이력을 남깁니다.
+ * Stock 행을 갱신하지 않고 이력만 추가하므로 트래픽이 몰리는 SKU라도 행 경합이 없고,
+ * 한 요청의 여러 insert는 JDBC 배치(hibernate.jdbc.batch_size)로 커밋 시점에 묶여 전송됩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StockLedger {
+    private final StockMovementRepository stockMovementRepository;
+
+    /**
+     * Stock에 이미 반영된 변경분을 현재 트랜잭션에 기록합니다.
+     */
+    public void recordApplied(String sku, long delta, StockMovementReason reason, String referenceId) {
+        stockMovementRepository.save(StockMovement.applied(sku, delta, reason, referenceId));
+    }
+
+    /**
+     * 아직 Stock에 반영되지 않은 변경분을 현재 트랜잭션에 기록합니다.
+     */
+    public void append(String sku, long delta, StockMovementReason reason, String referenceId) {
+        stockMovementRepository.save(StockMovement.pending(sku, delta, reason, referenceId));
+    }
+}
@@ -0,0 +1,89 @@
+package org.icd4.commerce.application.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.counter.HotStockCounter;
+import org.icd4.commerce.application.event.StockStatusChanged;
+import org.icd4.commerce.application.required.StockMovementRepository;
+import org.icd4.commerce.application.required.StockRepository;
+import org.icd4.commerce.domain.Stock;
+import org.icd4.commerce.domain.StockMovement;
+import org.icd4.commerce.domain.StockStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아직 반영되지 않은 재고 변경 이력을 주기적으로 Stock.quantity(스냅샷)에 합산합니다.
+ *
+ * <p>SKU 단위로 미반영 이력 전체를 한 트랜잭션에서 합산하고 반영 완료로 표시하므로,
+ * 스냅샷 + 미반영 변경분의 합은 작업 전후로 항상 같습니다.</p>
+ */
+@Slf4j
+@Component
+public class StockSnapshotCompactor {
+    private final StockMovementRepository stockMovementRepository;
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final HotStockCounter hotStockCounter;
+    private final int batchSize;
+
+    public StockSnapshotCompactor(StockMovementRepository stockMovementRepository,
+                                  StockRepository stockRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  HotStockCounter hotStockCounter,
+                                  @Value("${stock.ledger.snapshot-batch-size:100}") int batchSize) {
+        this.stockMovementRepository = stockMovementRepository;
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.hotStockCounter = hotStockCounter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.ledger.snapshot-interval-ms:5000}")
+    public void compact() {
+        try {
+            List<String> skus = stockMovementRepository.findUnappliedSkus(PageRequest.of(0, batchSize));
+            if (!skus.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> compact(skus));
+            }
+        } catch (Exception e) {
+            log.error("[StockSnapshotCompactor.compact()]", e);
+        }
+    }
+
+    private void compact(List<String> skus) {
+        // 일괄 변경과 같은 SKU 오름차순으로 잠금을 획득합니다.
+        Map<String, Stock> stocks = stockRepository.findAllBySkuInOrderBySkuAsc(skus).stream()
+                .collect(Collectors.toMap(Stock::getSku, Function.identity()));
+        List<StockMovement> movements = stockMovementRepository.findAllBySkuInAndAppliedFalse(skus);
+
+        movements.stream()
+                .collect(Collectors.groupingBy(StockMovement::getSku, Collectors.summingLong(StockMovement::getDelta)))
+                .forEach((sku, delta) -> {
+                    Stock stock = stocks.get(sku);
+                    if (stock == null) {
+                        log.warn("스냅샷 대상 재고가 없어 변경 이력을 건너뜁니다. sku={}, delta={}", sku, delta);
+                    } else if (delta != 0) {
+                        // 핫 SKU의 상태 전이는 카운터가 임계치를 넘을 때 이미 발행했으므로 다시 발행하지 않습니다.
+                        StockStatus previousStatus = stock.getStockStatus();
+                        stock.applyQuantityDelta(delta);
+                        if (previousStatus != stock.getStockStatus() && !hotStockCounter.isHot(sku)) {
+                            applicationEventPublisher.publishEvent(new StockStatusChanged(
+                                    sku, previousStatus, stock.getStockStatus(), stock.getQuantity()));
+                        }
+                    }
+                });
+        movements.forEach(StockMovement::markApplied);
+    }
+}
@@ -2,7 +2,15 @@ package org.icd4.commerce.application.provided;
 
 import org.icd4.commerce.domain.Stock;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface StockFinder {
     Stock getStock(String stockId);
     Long checkQuantity(String stockId);
+
+    /**
+     * 여러 SKU의 현재 재고를 한 번의 조회로 반환합니다. 존재하지 않는 SKU는 결과에 포함되지 않습니다.
+     */
+    Map<String, Long> checkQuantities(Collection<String> skus);
 }
@@ -2,10 +2,33 @@ package org.icd4.commerce.application.provided;
 
 import org.icd4.commerce.domain.Stock;
 
+import java.util.List;
+import java.util.Map;
+
 public interface StockRegister {
     Stock register(String sku, Long quantity);
+
+    /**
+     * 여러 SKU의 재고를 한 번에 등록합니다. INSERT는 JDBC 배치로 묶여 실행됩니다.
+     */
+    List<Stock> registerAll(Map<String, Long> quantities);
+
+    /**
+     * 같은 멱등 키로 이미 등록된 요청이면 다시 등록하지 않고 등록된 재고를 반환합니다.
+     * 응답을 받지 못해 재시도하는 호출자(상품 서비스 outbox 릴레이 등)가 "이미 등록된 SKU" 오류로 실패하지 않게 합니다.
+     */
+    List<Stock> registerAll(Map<String, Long> quantities, String idempotencyKey);
+
     Long increaseQuantity(String sku, Long quantity);
     Long decreaseQuantity(String sku, Long quantity);
+    Map<String, Long> increaseQuantities(Map<String, Long> quantities);
+    Map<String, Long> decreaseQuantities(Map<String, Long> quantities);
 
-
+    /**
+     * 같은 멱등 키로 이미 처리된 요청이면 재고를 변경하지 않고 처리 당시의 결과 수량을 반환합니다.
+     */
+    Long increaseQuantity(String sku, Long quantity, String idempotencyKey);
+    Long decreaseQuantity(String sku, Long quantity, String idempotencyKey);
+    Map<String, Long> increaseQuantities(Map<String, Long> quantities, String idempotencyKey);
+    Map<String, Long> decreaseQuantities(Map<String, Long> quantities, String idempotencyKey);
 }
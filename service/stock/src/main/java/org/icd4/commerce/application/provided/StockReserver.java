@@ -0,0 +1,9 @@
+package org.icd4.commerce.application.provided;
+
+import org.icd4.commerce.domain.StockReservation;
+
+public interface StockReserver {
+    StockReservation reserve(String sku, Long quantity);
+    StockReservation commit(String reservationId);
+    StockReservation release(String reservationId);
+}
@@ -0,0 +1,19 @@
+package org.icd4.commerce.application.provided;
+
+import org.icd4.commerce.domain.Warehouse;
+import org.icd4.commerce.domain.WarehouseAllocation;
+import org.icd4.commerce.domain.WarehouseStock;
+
+import java.util.List;
+
+public interface WarehouseStockManager {
+    Warehouse registerWarehouse(String warehouseId, String name, double latitude, double longitude);
+    WarehouseStock receive(String warehouseId, String sku, Long quantity);
+    List<WarehouseStock> getWarehouseStocks(String sku);
+
+    /**
+     * 배송지에서 가까운 창고를 골라 주문 라인의 수량을 할당하고 창고 재고를 차감합니다.
+     * 주문 시점에 이미 차감된 판매 가능 수량(Stock)은 변경하지 않습니다.
+     */
+    List<WarehouseAllocation> allocate(String sku, Long quantity, double latitude, double longitude);
+}
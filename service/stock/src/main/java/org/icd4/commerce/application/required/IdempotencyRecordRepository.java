@@ -0,0 +1,19 @@
+package org.icd4.commerce.application.required;
+
+import org.icd4.commerce.domain.IdempotencyRecord;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends Repository<IdempotencyRecord, String> {
+    IdempotencyRecord saveAndFlush(IdempotencyRecord record);
+    Optional<IdempotencyRecord> findById(String idempotencyKey);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdAt < :threshold")
+    int deleteAllCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,15 @@
+package org.icd4.commerce.application.required;
+
+import org.icd4.commerce.event.stock.StockQuantityChangedEvent;
+import org.icd4.commerce.event.stock.StockStatusChangedEvent;
+
+import java.util.List;
+
+/**
+ * 재고 수량 변경 이벤트를 외부(검색 인덱스, 상품 조회 모델 등)로 발행하는 포트.
+ */
+public interface StockChangePublisher {
+    void publish(List<StockQuantityChangedEvent> events);
+
+    void publishStatusChange(StockStatusChangedEvent event);
+}
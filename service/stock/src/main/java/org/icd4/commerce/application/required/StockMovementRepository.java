@@ -0,0 +1,19 @@
+package org.icd4.commerce.application.required;
+
+import org.icd4.commerce.domain.StockMovement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockMovementRepository extends Repository<StockMovement, Long> {
+    StockMovement save(StockMovement movement);
+    <S extends StockMovement> List<S> saveAll(Iterable<S> movements);
+    List<StockMovement> findAllBySkuOrderByIdAsc(String sku);
+    List<StockMovement> findAllBySkuInAndAppliedFalse(Collection<String> skus);
+
+    @Query("select distinct m.sku from StockMovement m where m.applied = false")
+    List<String> findUnappliedSkus(Pageable pageable);
+}
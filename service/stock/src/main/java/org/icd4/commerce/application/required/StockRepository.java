@@ -1,11 +1,89 @@
 package org.icd4.commerce.application.required;
 
 
+import jakarta.persistence.LockModeType;
 import org.icd4.commerce.domain.Stock;
+import org.icd4.commerce.domain.StockStatus;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StockRepository extends Repository<Stock, String> {
     Stock save(Stock stock);
+    <S extends Stock> List<S> saveAll(Iterable<S> stocks);
     Optional<Stock> findBySku(String stockId);
+    boolean existsBySku(String sku);
+
+    @Query("select s.sku from Stock s where s.sku in :skus")
+    List<String> findSkusBySkuIn(@Param("skus") Collection<String> skus);
+
+    /**
+     * SKU 오름차순으로 행 잠금을 획득합니다. 여러 SKU를 동시에 변경하는 요청끼리
+     * 항상 같은 순서로 잠금을 잡으므로 교착 상태가 발생하지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Stock> findAllBySkuInOrderBySkuAsc(Collection<String> skus);
+
+    /**
+     * 스냅샷(Stock.quantity)과 아직 반영되지 않은 원장 변경분을 한 번의 조회로 합산한 현재 재고.
+     */
+    @Query("select s.quantity + coalesce(sum(m.delta), 0) from Stock s " +
+            "left join StockMovement m on m.sku = s.sku and m.applied = false " +
+            "where s.sku = :sku group by s.id, s.quantity")
+    Optional<Long> findCurrentQuantityBySku(@Param("sku") String sku);
+
+    @Query("select s.sku as sku, s.quantity + coalesce(sum(m.delta), 0) as quantity from Stock s " +
+            "left join StockMovement m on m.sku = s.sku and m.applied = false " +
+            "where s.sku in :skus group by s.id, s.sku, s.quantity")
+    List<SkuQuantity> findCurrentQuantitiesBySkuIn(@Param("skus") Collection<String> skus);
+
+    /**
+     * 엔티티를 읽지 않고 한 문장으로 차감합니다. 재고가 부족하면 아무 행도 바뀌지 않으므로 반환된 행 수(0/1)로 성공 여부를 판단합니다.
+     * 상태는 차감 전 수량으로 계산해야 하므로 수량보다 먼저 갱신합니다 (MySQL은 SET 절을 왼쪽부터 순서대로 적용).
+     * 버전도 함께 올려, 엔티티를 읽어 수정하는 다른 요청이 이 변경을 덮어쓰지 못하게 합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Stock s set " +
+            "s.stockStatus = case " +
+            "  when s.quantity - :quantity <= 0 then org.icd4.commerce.domain.StockStatus.OUT_OF_STOCK " +
+            "  when s.quantity - :quantity <= s.lowStockThreshold then org.icd4.commerce.domain.StockStatus.LOW_STOCK " +
+            "  else org.icd4.commerce.domain.StockStatus.AVAILABLE end, " +
+            "s.quantity = s.quantity - :quantity, s.version = s.version + 1, s.updatedAt = :now " +
+            "where s.sku = :sku and s.quantity >= :quantity")
+    int decreaseQuantityIfAvailable(@Param("sku") String sku, @Param("quantity") long quantity,
+                                    @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Stock s set " +
+            "s.stockStatus = case " +
+            "  when s.quantity + :quantity <= 0 then org.icd4.commerce.domain.StockStatus.OUT_OF_STOCK " +
+            "  when s.quantity + :quantity <= s.lowStockThreshold then org.icd4.commerce.domain.StockStatus.LOW_STOCK " +
+            "  else org.icd4.commerce.domain.StockStatus.AVAILABLE end, " +
+            "s.quantity = s.quantity + :quantity, s.version = s.version + 1, s.updatedAt = :now " +
+            "where s.sku = :sku")
+    int increaseQuantityBySku(@Param("sku") String sku, @Param("quantity") long quantity,
+                              @Param("now") LocalDateTime now);
+
+    @Query("select s.sku as sku, s.quantity as quantity, s.stockStatus as stockStatus, " +
+            "s.lowStockThreshold as lowStockThreshold from Stock s where s.sku = :sku")
+    Optional<StockLevel> findStockLevelBySku(@Param("sku") String sku);
+
+    interface StockLevel {
+        String getSku();
+        Long getQuantity();
+        StockStatus getStockStatus();
+        Long getLowStockThreshold();
+    }
+
+    interface SkuQuantity {
+        String getSku();
+        Long getQuantity();
+    }
 }
@@ -0,0 +1,14 @@
+package org.icd4.commerce.application.required;
+
+import org.icd4.commerce.domain.ReservationStatus;
+import org.icd4.commerce.domain.StockReservation;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StockReservationRepository extends Repository<StockReservation, String> {
+    StockReservation save(StockReservation reservation);
+    Optional<StockReservation> findById(String reservationId);
+    List<StockReservation> findAllByStatus(ReservationStatus status);
+}
@@ -0,0 +1,14 @@
+package org.icd4.commerce.application.required;
+
+import org.icd4.commerce.domain.Warehouse;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WarehouseRepository extends Repository<Warehouse, String> {
+    Warehouse save(Warehouse warehouse);
+    Optional<Warehouse> findById(String warehouseId);
+    boolean existsById(String warehouseId);
+    List<Warehouse> findAll();
+}
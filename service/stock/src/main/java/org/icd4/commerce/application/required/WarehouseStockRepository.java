@@ -0,0 +1,24 @@
+package org.icd4.commerce.application.required;
+
+import jakarta.persistence.LockModeType;
+import org.icd4.commerce.domain.WarehouseStock;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.repository.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface WarehouseStockRepository extends Repository<WarehouseStock, String> {
+    WarehouseStock save(WarehouseStock warehouseStock);
+    List<WarehouseStock> findAllBySku(String sku);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<WarehouseStock> findBySkuAndWarehouseId(String sku, String warehouseId);
+
+    /**
+     * 창고 ID 오름차순으로 행 잠금을 획득해, 같은 SKU를 여러 창고에서 할당하는 요청끼리 교착 상태가 생기지 않도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<WarehouseStock> findAllBySkuAndWarehouseIdInOrderByWarehouseIdAsc(String sku, Collection<String> warehouseIds);
+}
@@ -0,0 +1,49 @@
+package org.icd4.commerce.application.reservation;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 선점의 만료 시점을 관리하는 지연 큐.
+ *
+ * <p>DB를 주기적으로 조회하지 않고, 만료 시점이 된 선점 ID만 {@link #take()}로 꺼내 처리합니다.
+ * 확정/해제된 선점을 큐에서 제거하지 않으며, 만료 처리 시점에 상태를 확인해 무시합니다.</p>
+ */
+@Component
+public class ReservationExpiryQueue {
+    private final DelayQueue<Expiry> queue = new DelayQueue<>();
+
+    public void schedule(String reservationId, LocalDateTime expiresAt) {
+        long delayNanos = Duration.between(LocalDateTime.now(), expiresAt).toNanos();
+        queue.put(new Expiry(reservationId, System.nanoTime() + delayNanos));
+    }
+
+    /**
+     * 만료 시점이 된 선점 ID를 꺼냅니다. 만료된 선점이 없으면 대기합니다.
+     */
+    public String take() throws InterruptedException {
+        return queue.take().reservationId();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private record Expiry(String reservationId, long expiresAtNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAtNanos, ((Expiry) other).expiresAtNanos);
+        }
+    }
+}
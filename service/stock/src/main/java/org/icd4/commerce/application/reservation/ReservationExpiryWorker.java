@@ -0,0 +1,75 @@
+package org.icd4.commerce.application.reservation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.icd4.commerce.application.StockReservationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link ReservationExpiryQueue}에서 만료된 선점을 꺼내 해제하는 백그라운드 작업자.
+ *
+ * <p>기동 시 아직 선점 중인 내역을 한 번 적재한 뒤에는 큐만 바라보며 동작합니다.
+ * 만료 처리에 실패하면 잠시 후 다시 시도하도록 큐에 재등록합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryWorker implements SmartLifecycle {
+    private final ReservationExpiryQueue expiryQueue;
+    private final StockReservationService stockReservationService;
+
+    @Value("${stock.reservation.expiry-retry-delay-seconds:5}")
+    private long retryDelaySeconds;
+
+    private volatile Thread worker;
+
+    @Override
+    public void start() {
+        stockReservationService.scheduleOutstandingReservations();
+
+        worker = Thread.ofPlatform()
+                .name("reservation-expiry")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        Thread current = worker;
+        worker = null;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            String reservationId;
+            try {
+                reservationId = expiryQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            expire(reservationId);
+        }
+    }
+
+    private void expire(String reservationId) {
+        try {
+            stockReservationService.expire(reservationId);
+        } catch (Exception e) {
+            log.warn("[ReservationExpiryWorker.expire()] reservationId={}", reservationId, e);
+            expiryQueue.schedule(reservationId, LocalDateTime.now().plusSeconds(retryDelaySeconds));
+        }
+    }
+}
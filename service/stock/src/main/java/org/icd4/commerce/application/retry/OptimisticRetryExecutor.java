@@ -0,0 +1,108 @@
+package org.icd4.commerce.application.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 잠금 충돌(버전 불일치) 시 트랜잭션 전체를 다시 실행합니다.
+ *
+ * <p>재시도 사이에는 지수적으로 늘어나는 상한 안에서 무작위로 대기(full jitter)해 충돌한 요청끼리 다시 부딪히지 않게 하고,
+ * {@link RetryBudget}으로 재시도 총량을 제한합니다. 최대 시도 횟수나 예산을 넘으면 마지막 충돌 예외를 그대로 던집니다.</p>
+ *
+ * <p>이미 호출한 쪽의 트랜잭션 안이라면 그 트랜잭션에 참여하므로 여기서는 재시도하지 않습니다.
+ * 이 경우 충돌은 호출한 쪽의 커밋 시점에 드러납니다.</p>
+ *
+ * <p>충돌/재시도 횟수는 {@code stock.update.conflicts}, {@code stock.update.retries},
+ * {@code stock.update.retry.exhausted}(reason=max-attempts|budget) 지표로 노출됩니다.</p>
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+    private final TransactionOperations transactionOperations;
+    private final RetryBudget retryBudget;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter exhaustedByAttempts;
+    private final Counter exhaustedByBudget;
+
+    public OptimisticRetryExecutor(TransactionOperations transactionOperations,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${stock.optimistic-retry.max-attempts:5}") int maxAttempts,
+                                   @Value("${stock.optimistic-retry.base-backoff-ms:5}") long baseBackoffMs,
+                                   @Value("${stock.optimistic-retry.max-backoff-ms:200}") long maxBackoffMs,
+                                   @Value("${stock.optimistic-retry.budget-ratio:0.2}") double budgetRatio,
+                                   @Value("${stock.optimistic-retry.budget-max-retries:100}") long budgetMaxRetries) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("최대 시도 횟수는 1 이상이어야 합니다.");
+        }
+        this.transactionOperations = transactionOperations;
+        this.retryBudget = new RetryBudget(budgetRatio, budgetMaxRetries);
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.conflicts = Counter.builder("stock.update.conflicts").register(meterRegistry);
+        this.retries = Counter.builder("stock.update.retries").register(meterRegistry);
+        this.exhaustedByAttempts = Counter.builder("stock.update.retry.exhausted").tag("reason", "max-attempts").register(meterRegistry);
+        this.exhaustedByBudget = Counter.builder("stock.update.retry.exhausted").tag("reason", "budget").register(meterRegistry);
+        Gauge.builder("stock.update.retry.budget", retryBudget, RetryBudget::available).register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        retryBudget.recordRequest();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhaustedByAttempts.increment();
+                    log.warn("재고 변경 충돌 재시도 한도 초과: attempts={}", attempt);
+                    throw e;
+                }
+                if (!retryBudget.tryAcquire()) {
+                    exhaustedByBudget.increment();
+                    log.warn("재고 변경 충돌 재시도 예산 소진: attempts={}", attempt);
+                    throw e;
+                }
+                retries.increment();
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    public double conflictCount() {
+        return conflicts.count();
+    }
+
+    public double retryCount() {
+        return retries.count();
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException conflict) {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        long sleepMs = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.icd4.commerce.application.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산. 요청마다 {@code ratio}만큼 적립하고 재시도마다 1씩 꺼내 쓰므로,
+ * 충돌이 몰려도 재시도는 전체 요청의 일정 비율을 넘지 못합니다 (재시도 폭주 방지).
+ *
+ * <p>적립은 최대 {@code maxRetries}까지만 쌓이며, 기동 직후에도 재시도할 수 있도록 가득 찬 상태로 시작합니다.</p>
+ */
+public class RetryBudget {
+    private static final long SCALE = 1_000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, long maxRetries) {
+        if (ratio < 0 || maxRetries < 0) {
+            throw new IllegalArgumentException("재시도 예산은 0 이상이어야 합니다.");
+        }
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = maxRetries * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    public void recordRequest() {
+        balance.updateAndGet(current -> Math.min(maxBalance, current + depositPerRequest));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+}
@@ -0,0 +1,109 @@
+package org.icd4.commerce.application.warehouse;
+
+import org.icd4.commerce.domain.Warehouse;
+import org.icd4.commerce.domain.WarehouseAllocation;
+import org.icd4.commerce.domain.WarehouseStock;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * SKU별·창고별 가용 수량과 창고 위치를 메모리에 두고, 주문 라인을 출고할 창고를 고릅니다.
+ *
+ * <p>SKU별 수량은 처음 조회될 때 DB에서 한 번 적재되고 이후에는 변경분만 반영됩니다.
+ * 인덱스는 후보 창고를 빠르게 고르기 위한 것이며, 실제 차감은 잠금을 건 창고 재고 행에서 다시 검증합니다.</p>
+ */
+@Component
+public class WarehouseStockIndex {
+    private final Map<String, Warehouse> warehouses = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, AtomicLong>> available = new ConcurrentHashMap<>();
+    private volatile boolean warehousesLoaded;
+
+    public void putWarehouse(Warehouse warehouse) {
+        warehouses.put(warehouse.getId(), warehouse);
+    }
+
+    /**
+     * 적재된 SKU에만 변경분을 반영합니다. 적재되지 않은 SKU는 다음 조회 시 DB에서 최신 값을 읽습니다.
+     */
+    public void apply(String sku, String warehouseId, long delta) {
+        Map<String, AtomicLong> byWarehouse = available.get(sku);
+        if (byWarehouse != null) {
+            byWarehouse.computeIfAbsent(warehouseId, id -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+
+    public void evict(String sku) {
+        available.remove(sku);
+    }
+
+    /**
+     * 출고 창고를 정합니다.
+     * 한 창고에서 전량 출고할 수 있으면 그중 가장 가까운 창고 하나를, 없으면 가까운 창고부터 나눠 할당합니다.
+     *
+     * @param warehouseLoader 창고 위치가 아직 적재되지 않았을 때 전체 창고를 읽어오는 함수
+     * @param stockLoader     SKU의 창고별 수량이 아직 적재되지 않았을 때 DB에서 읽어오는 함수
+     */
+    public List<WarehouseAllocation> plan(String sku, long quantity, double latitude, double longitude,
+                                          Supplier<List<Warehouse>> warehouseLoader,
+                                          Supplier<List<WarehouseStock>> stockLoader) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("할당 수량은 0 이하가 될 수 없습니다.");
+        }
+        loadWarehouses(warehouseLoader);
+
+        List<Candidate> candidates = availableOf(sku, stockLoader).entrySet().stream()
+                .filter(entry -> entry.getValue().get() > 0 && warehouses.containsKey(entry.getKey()))
+                .map(entry -> new Candidate(entry.getKey(), entry.getValue().get(),
+                        warehouses.get(entry.getKey()).distanceKmTo(latitude, longitude)))
+                .sorted(Comparator.comparingDouble(Candidate::distanceKm).thenComparing(Candidate::warehouseId))
+                .toList();
+
+        for (Candidate candidate : candidates) {
+            if (candidate.available() >= quantity) {
+                return List.of(new WarehouseAllocation(candidate.warehouseId(), quantity));
+            }
+        }
+
+        List<WarehouseAllocation> allocations = new ArrayList<>();
+        long remaining = quantity;
+        for (Candidate candidate : candidates) {
+            long allocated = Math.min(remaining, candidate.available());
+            allocations.add(new WarehouseAllocation(candidate.warehouseId(), allocated));
+            remaining -= allocated;
+            if (remaining == 0) {
+                return allocations;
+            }
+        }
+        throw new IllegalArgumentException("요청한 수량이 창고 재고 합계보다 많습니다. 부족 수량: " + remaining);
+    }
+
+    private Map<String, AtomicLong> availableOf(String sku, Supplier<List<WarehouseStock>> stockLoader) {
+        return available.computeIfAbsent(sku, key -> {
+            Map<String, AtomicLong> byWarehouse = new ConcurrentHashMap<>();
+            stockLoader.get().forEach(stock ->
+                    byWarehouse.put(stock.getWarehouseId(), new AtomicLong(stock.getQuantity())));
+            return byWarehouse;
+        });
+    }
+
+    private void loadWarehouses(Supplier<List<Warehouse>> warehouseLoader) {
+        if (!warehousesLoaded) {
+            synchronized (this) {
+                if (!warehousesLoaded) {
+                    warehouseLoader.get().forEach(warehouse -> warehouses.putIfAbsent(warehouse.getId(), warehouse));
+                    warehousesLoaded = true;
+                }
+            }
+        }
+    }
+
+    private record Candidate(String warehouseId, long available, double distanceKm) {
+    }
+}
@@ -0,0 +1,93 @@
+package org.icd4.commerce.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 멱등 키로 처리된 재고 변경 요청의 결과.
+ *
+ * <p>같은 멱등 키로 재요청되면 재고를 다시 변경하지 않고 기록된 결과 수량을 그대로 돌려줍니다.
+ * 키를 다른 SKU, 다른 변경 종류나 수량에 다시 쓰면 같은 요청으로 보지 않습니다.</p>
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_idempotency_record_created_at", columnList = "createdAt"))
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord implements Persistable<String> {
+    @Id
+    private String idempotencyKey;
+
+    private String sku;
+
+    @Enumerated(EnumType.STRING)
+    private StockMovementReason operation;
+
+    private Long requestedQuantity;
+
+    private Long resultQuantity;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * 기록은 한 번만 INSERT 되어야 하므로 merge(SELECT 후 UPDATE) 대신 항상 persist 하도록 알려줍니다.
+     * 같은 키가 이미 있으면 덮어쓰지 않고 기본 키 충돌로 실패합니다.
+     */
+    @Transient
+    @ToString.Exclude
+    private boolean isNew = true;
+
+    public static IdempotencyRecord of(String idempotencyKey, String sku, StockMovementReason operation,
+                                       Long requestedQuantity, Long resultQuantity) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.idempotencyKey = requireNonNull(idempotencyKey, "멱등 키를 입력해주세요.");
+        record.sku = requireNonNull(sku, "상품 ID를 입력해주세요.");
+        record.operation = requireNonNull(operation, "변경 종류를 입력해주세요.");
+        record.requestedQuantity = requireNonNull(requestedQuantity, "요청 수량을 입력해주세요.");
+        record.resultQuantity = requireNonNull(resultQuantity, "결과 수량을 입력해주세요.");
+        record.createdAt = LocalDateTime.now();
+        return record;
+    }
+
+    /**
+     * 기록된 요청과 같은 SKU, 같은 변경 종류, 같은 수량의 요청인지 확인합니다.
+     */
+    public boolean matches(String sku, StockMovementReason operation, Long requestedQuantity) {
+        return this.sku.equals(sku)
+                && this.operation == operation
+                && Objects.equals(this.requestedQuantity, requestedQuantity);
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,10 @@
+package org.icd4.commerce.domain;
+
+public enum ReservationStatus {
+    RESERVED,          // 재고 선점 중
+    COMMITTED,         // 결제 완료로 확정
+    RELEASED,          // 주문 취소 등으로 해제
+    EXPIRED            // 유효 시간 초과로 자동 해제
+
+
+}
@@ -1,27 +1,45 @@
 package org.icd4.commerce.domain;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.icd4.commerce.common.idgenerator.ULIDUtils;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 import static java.util.Objects.requireNonNull;
 
 @Entity
+@Table(indexes = @Index(name = "uk_stock_sku", columnList = "sku", unique = true))
 @ToString
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Stock {
+public class Stock implements Persistable<String> {
+    public static final long DEFAULT_LOW_STOCK_THRESHOLD = 5L;
+
+    /**
+     * 시간순으로 증가하는 ULID를 사용해 INSERT가 인덱스의 끝에 추가되도록 합니다.
+     */
     @Id
     private String id;
 
+    /**
+     * 재고 조회의 자연 키. 유니크 인덱스로 SKU당 하나의 재고만 존재합니다.
+     */
+    @Column(nullable = false, updatable = false)
     private String sku;
 
     private Long quantity;
@@ -29,34 +47,66 @@ public class Stock {
     @Enumerated(EnumType.STRING)
     private StockStatus stockStatus;
 
+    /**
+     * 수량이 이 값 이하가 되면 LOW_STOCK, 0이 되면 OUT_OF_STOCK 상태가 됩니다.
+     */
+    private long lowStockThreshold;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
 
+    /**
+     * 잠금 없이 읽고 수정한 요청끼리 서로의 변경을 덮어쓰지 않도록, 버전이 바뀌었으면 커밋 시 충돌로 실패시킵니다.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * 직접 할당한 ID를 쓰므로, 신규 엔티티를 merge(SELECT 후 INSERT) 대신 persist 하도록 알려줍니다.
+     * 대량 등록 시 INSERT가 JDBC 배치로 묶이려면 필요합니다.
+     */
+    @Transient
+    @ToString.Exclude
+    private boolean isNew = true;
+
     public static Stock register(String sku, Long quantity) {
         if (quantity <= 0) {
             throw new IllegalArgumentException("재고의 값은 0 이하가 될 수 없습니다.");
         }
 
         Stock stock = new Stock();
-        stock.id = UUID.randomUUID().toString();
+        stock.id = ULIDUtils.generate();
         stock.sku = requireNonNull(sku, "상품 ID를 입력해주세요.");
         stock.quantity = requireNonNull(quantity, "재고를 입력해주세요.");
-        stock.stockStatus = StockStatus.AVAILABLE;
+        stock.lowStockThreshold = DEFAULT_LOW_STOCK_THRESHOLD;
+        stock.stockStatus = StockStatus.of(quantity, stock.lowStockThreshold);
         stock.createdAt = LocalDateTime.now();
         stock.updatedAt = LocalDateTime.now();
         return stock;
     }
 
     public void increaseQuantity(Long quantity) {
-        if (quantity == null || quantity <= 0) {
-            throw new IllegalArgumentException("재고는 0 이하의 값이 될 수 없습니다.");
-        }
+        validateIncrease(quantity);
         this.quantity += quantity;
         this.updatedAt = LocalDateTime.now();
+        refreshStatus();
     }
 
     public void decreaseQuantity(Long quantity) {
+        validateDecrease(quantity);
+        this.quantity -= quantity;
+        this.updatedAt = LocalDateTime.now();
+        refreshStatus();
+    }
+
+    public void validateIncrease(Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("재고는 0 이하의 값이 될 수 없습니다.");
+        }
+    }
+
+    public void validateDecrease(Long quantity) {
         if (quantity == null || quantity <= 0) {
             throw new IllegalArgumentException("재고는 0 이하의 값이 될 수 없습니다.");
         }
@@ -64,8 +114,33 @@ public class Stock {
         if (this.quantity < quantity) {
             throw new IllegalArgumentException("요청한 수량이 현재 재고보다 많습니다. 현재 재고: " + this.quantity);
         }
-        this.quantity -= quantity;
+    }
+
+    /**
+     * 메모리 카운터 등에서 이미 검증된 변경분(음수 가능)을 한 번에 반영합니다.
+     */
+    public void applyQuantityDelta(long delta) {
+        if (this.quantity + delta < 0) {
+            throw new IllegalArgumentException("재고는 0 미만이 될 수 없습니다. 현재 재고: " + this.quantity + ", 변경분: " + delta);
+        }
+        this.quantity += delta;
         this.updatedAt = LocalDateTime.now();
+        refreshStatus();
+    }
+
+    private void refreshStatus() {
+        this.stockStatus = StockStatus.of(this.quantity, this.lowStockThreshold);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
     }
 
     public Long checkQuantity() {
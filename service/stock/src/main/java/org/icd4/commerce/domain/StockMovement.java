@@ -0,0 +1,85 @@
+package org.icd4.commerce.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 재고 변경 이력(원장). 한 번 기록된 변경분은 수정되지 않고 쌓이기만 합니다.
+ *
+ * <p>{@code applied}는 해당 변경분이 스냅샷({@link Stock#getQuantity()})에 이미 반영되었는지를 나타냅니다.
+ * 현재 재고는 "스냅샷 + 아직 반영되지 않은 변경분의 합"이며, 반영되지 않은 변경분은
+ * 스냅샷 작업이 주기적으로 Stock에 합산합니다.</p>
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_stock_movement_sku_applied", columnList = "sku, applied"))
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockMovement {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movement_seq")
+    @SequenceGenerator(name = "stock_movement_seq", sequenceName = "stock_movement_seq", allocationSize = 50)
+    private Long id;
+
+    private String sku;
+
+    private Long delta;
+
+    @Enumerated(EnumType.STRING)
+    private StockMovementReason reason;
+
+    private String referenceId;
+
+    private boolean applied;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * Stock에 이미 반영된 변경분을 기록합니다.
+     */
+    public static StockMovement applied(String sku, long delta, StockMovementReason reason, String referenceId) {
+        return create(sku, delta, reason, referenceId, true);
+    }
+
+    /**
+     * 아직 Stock에 반영되지 않은 변경분을 기록합니다.
+     */
+    public static StockMovement pending(String sku, long delta, StockMovementReason reason, String referenceId) {
+        return create(sku, delta, reason, referenceId, false);
+    }
+
+    public void markApplied() {
+        this.applied = true;
+    }
+
+    private static StockMovement create(String sku, long delta, StockMovementReason reason,
+                                        String referenceId, boolean applied) {
+        if (delta == 0) {
+            throw new IllegalArgumentException("변경 수량은 0이 될 수 없습니다.");
+        }
+
+        StockMovement movement = new StockMovement();
+        movement.sku = requireNonNull(sku, "상품 ID를 입력해주세요.");
+        movement.delta = delta;
+        movement.reason = requireNonNull(reason, "변경 사유를 입력해주세요.");
+        movement.referenceId = referenceId;
+        movement.applied = applied;
+        movement.createdAt = LocalDateTime.now();
+        return movement;
+    }
+}
@@ -0,0 +1,9 @@
+package org.icd4.commerce.domain;
+
+public enum StockMovementReason {
+    REGISTER,          // 재고 최초 등록
+    INCREASE,          // 재고 증가 (입고, 선점 해제 등)
+    DECREASE           // 재고 차감 (판매, 선점 등)
+
+
+}
@@ -0,0 +1,103 @@
+package org.icd4.commerce.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 주문 생성 시점에 재고를 선점(hold)한 내역.
+ *
+ * <p>선점된 수량은 이미 Stock에서 차감된 상태이며, 결제가 완료되면 확정(commit)되고
+ * 취소되거나 유효 시간이 지나면 해제되어 재고로 되돌아갑니다.</p>
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_stock_reservation_status", columnList = "status"))
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation {
+    @Id
+    private String id;
+
+    private String sku;
+
+    private Long quantity;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public static StockReservation reserve(String sku, Long quantity, LocalDateTime expiresAt) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("선점 수량은 0 이하가 될 수 없습니다.");
+        }
+
+        StockReservation reservation = new StockReservation();
+        reservation.id = UUID.randomUUID().toString();
+        reservation.sku = requireNonNull(sku, "상품 ID를 입력해주세요.");
+        reservation.quantity = quantity;
+        reservation.status = ReservationStatus.RESERVED;
+        reservation.expiresAt = requireNonNull(expiresAt, "만료 시간을 입력해주세요.");
+        reservation.createdAt = LocalDateTime.now();
+        reservation.updatedAt = LocalDateTime.now();
+        return reservation;
+    }
+
+    public void commit() {
+        validateReserved();
+        if (isExpired(LocalDateTime.now())) {
+            throw new IllegalArgumentException("만료된 선점은 확정할 수 없습니다. reservationId: " + id);
+        }
+        changeStatus(ReservationStatus.COMMITTED);
+    }
+
+    public void release() {
+        validateReserved();
+        changeStatus(ReservationStatus.RELEASED);
+    }
+
+    public void expire() {
+        validateReserved();
+        changeStatus(ReservationStatus.EXPIRED);
+    }
+
+    public boolean isReserved() {
+        return this.status == ReservationStatus.RESERVED;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(this.expiresAt);
+    }
+
+    private void validateReserved() {
+        if (!isReserved()) {
+            throw new IllegalArgumentException("선점 상태가 아닙니다. 현재 상태: " + this.status);
+        }
+    }
+
+    private void changeStatus(ReservationStatus status) {
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
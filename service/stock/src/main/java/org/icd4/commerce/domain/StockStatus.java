@@ -2,7 +2,19 @@ package org.icd4.commerce.domain;
 
 public enum StockStatus {
     AVAILABLE,         // 가용 재고
-    OUT_OF_STOCK      // 품절
-
+    LOW_STOCK,         // 재고 부족 (임계치 이하)
+    OUT_OF_STOCK;      // 품절
 
+    /**
+     * 수량과 재고 부족 임계치로 상태를 계산합니다.
+     */
+    public static StockStatus of(long quantity, long lowStockThreshold) {
+        if (quantity <= 0) {
+            return OUT_OF_STOCK;
+        }
+        if (quantity <= lowStockThreshold) {
+            return LOW_STOCK;
+        }
+        return AVAILABLE;
+    }
 }
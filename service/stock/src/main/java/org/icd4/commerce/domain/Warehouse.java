@@ -0,0 +1,60 @@
+package org.icd4.commerce.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 재고를 보관하고 출고하는 물류 거점. 위치(위도/경도)는 출고 거점 선정 시 배송지와의 거리 계산에 사용됩니다.
+ */
+@Entity
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Warehouse {
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    @Id
+    private String id;
+
+    private String name;
+
+    private double latitude;
+
+    private double longitude;
+
+    private LocalDateTime createdAt;
+
+    public static Warehouse register(String id, String name, double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("창고 위치가 올바르지 않습니다. latitude: " + latitude + ", longitude: " + longitude);
+        }
+
+        Warehouse warehouse = new Warehouse();
+        warehouse.id = requireNonNull(id, "창고 ID를 입력해주세요.");
+        warehouse.name = requireNonNull(name, "창고 이름을 입력해주세요.");
+        warehouse.latitude = latitude;
+        warehouse.longitude = longitude;
+        warehouse.createdAt = LocalDateTime.now();
+        return warehouse;
+    }
+
+    /**
+     * 주어진 위치까지의 대원 거리(km, haversine).
+     */
+    public double distanceKmTo(double latitude, double longitude) {
+        double dLat = Math.toRadians(latitude - this.latitude);
+        double dLon = Math.toRadians(longitude - this.longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(this.latitude)) * Math.cos(Math.toRadians(latitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+}
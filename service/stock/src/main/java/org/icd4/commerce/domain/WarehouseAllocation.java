@@ -0,0 +1,7 @@
+package org.icd4.commerce.domain;
+
+/**
+ * 주문 라인 하나에 대해 특정 창고에서 출고하기로 정한 수량.
+ */
+public record WarehouseAllocation(String warehouseId, long quantity) {
+}
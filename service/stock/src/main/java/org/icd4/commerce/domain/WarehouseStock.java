@@ -0,0 +1,72 @@
+package org.icd4.commerce.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.icd4.commerce.common.idgenerator.ULIDUtils;
+
+import java.time.LocalDateTime;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 창고별 SKU 실물 재고. 판매 가능 수량({@link Stock#getQuantity()})과는 별개로,
+ * 출고 창고가 할당될 때 줄어듭니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "uk_warehouse_stock_sku_warehouse", columnList = "sku, warehouseId", unique = true))
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WarehouseStock {
+    @Id
+    private String id;
+
+    @Column(nullable = false, updatable = false)
+    private String warehouseId;
+
+    @Column(nullable = false, updatable = false)
+    private String sku;
+
+    private Long quantity;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public static WarehouseStock create(String warehouseId, String sku) {
+        WarehouseStock stock = new WarehouseStock();
+        stock.id = ULIDUtils.generate();
+        stock.warehouseId = requireNonNull(warehouseId, "창고 ID를 입력해주세요.");
+        stock.sku = requireNonNull(sku, "상품 ID를 입력해주세요.");
+        stock.quantity = 0L;
+        stock.createdAt = LocalDateTime.now();
+        stock.updatedAt = LocalDateTime.now();
+        return stock;
+    }
+
+    public void receive(Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("입고 수량은 0 이하가 될 수 없습니다.");
+        }
+        this.quantity += quantity;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void allocate(Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("할당 수량은 0 이하가 될 수 없습니다.");
+        }
+        if (this.quantity < quantity) {
+            throw new IllegalArgumentException("창고 재고가 부족합니다. warehouseId: " + warehouseId + ", 현재 재고: " + this.quantity);
+        }
+        this.quantity -= quantity;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
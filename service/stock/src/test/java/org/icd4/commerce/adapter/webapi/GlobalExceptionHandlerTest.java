@@ -1,11 +1,14 @@
 package org.icd4.commerce.adapter.webapi;
 
 import org.icd4.commerce.adapter.webapi.dto.ApiResponse;
+import org.icd4.commerce.application.idempotency.DuplicateIdempotentRequestException;
+import org.icd4.commerce.application.idempotency.IdempotencyKeyMismatchException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -104,4 +107,46 @@ class GlobalExceptionHandlerTest {
     }
 
 
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("DuplicateIdempotentRequestException 처리 - 같은 멱등 키 요청 동시 처리")
+    void handleDuplicateIdempotentRequestException() {
+        // Given
+        DuplicateIdempotentRequestException exception =
+                new DuplicateIdempotentRequestException("order-1", new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        ResponseEntity<ApiResponse<Void>> response = globalExceptionHandler.handleDuplicateIdempotentRequestException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("이미 처리 중인 요청입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @Test
+    @DisplayName("DataIntegrityViolationException 처리 - 이미 등록된 SKU 등 중복 데이터")
+    void handleDataIntegrityViolationException() {
+        // Given
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("uk_stock_sku");
+
+        // When
+        ResponseEntity<ApiResponse<Void>> response = globalExceptionHandler.handleDataIntegrityViolationException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("이미 등록된 데이터입니다. 요청 내용을 확인해주세요.");
+    }
+
+    @Test
+    @DisplayName("IdempotencyKeyMismatchException 처리 - 다른 요청에 멱등 키 재사용")
+    void handleIdempotencyKeyMismatchException() {
+        // Given
+        IdempotencyKeyMismatchException exception = new IdempotencyKeyMismatchException("order-1");
+
+        // When
+        ResponseEntity<ApiResponse<Void>> response = globalExceptionHandler.handleIdempotencyKeyMismatchException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
@@ -1,6 +1,7 @@
 package org.icd4.commerce.adapter.webapi;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.icd4.commerce.adapter.webapi.dto.StockBulkRegisterRequest;
 import org.icd4.commerce.adapter.webapi.dto.StockRegisterRequest;
 import org.icd4.commerce.adapter.webapi.dto.StockUpdateRequest;
 import org.icd4.commerce.application.required.StockRepository;
@@ -16,6 +17,9 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -108,6 +112,84 @@ class StockApiTest {
                 .andExpect(jsonPath("$.message").value("상품 ID는 필수 입니다."));
     }
 
+    @Test
+    @DisplayName("재고 일괄 등록 API - 성공")
+    void registerStocks_Success() throws Exception {
+        // Given
+        StockBulkRegisterRequest request = new StockBulkRegisterRequest(List.of(
+                new StockRegisterRequest("bulk-api-product-1", 10L),
+                new StockRegisterRequest("bulk-api-product-2", 20L)));
+
+        // When & Then
+        mockMvc.perform(post("/api/stocks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].sku").value("bulk-api-product-1"))
+                .andExpect(jsonPath("$.data[1].quantity").value(20));
+    }
+
+    @Test
+    @DisplayName("재고 일괄 등록 API - 실패 (중복된 SKU)")
+    void registerStocks_Fail_DuplicateSku() throws Exception {
+        // Given
+        StockBulkRegisterRequest request = new StockBulkRegisterRequest(List.of(
+                new StockRegisterRequest("bulk-api-product-3", 10L),
+                new StockRegisterRequest("bulk-api-product-3", 20L)));
+
+        // When & Then
+        mockMvc.perform(post("/api/stocks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("중복된 SKU")));
+    }
+
+    @Test
+    @DisplayName("재고 일괄 조회 API - GET/POST 모두 한 번에 수량을 반환한다")
+    void getAvailability_Success() throws Exception {
+        // Given
+        stockRepository.save(Stock.register("availability-api-product-1", 10L));
+        stockRepository.save(Stock.register("availability-api-product-2", 20L));
+
+        // When & Then
+        mockMvc.perform(get("/api/stocks/availability")
+                        .param("skus", "availability-api-product-1", "availability-api-product-2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data['availability-api-product-1']").value(10))
+                .andExpect(jsonPath("$.data['availability-api-product-2']").value(20));
+
+        mockMvc.perform(post("/api/stocks/availability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"skus\": [\"availability-api-product-1\", \"non-existent-product\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data['availability-api-product-1']").value(10))
+                .andExpect(jsonPath("$.data['non-existent-product']").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("재고 일괄 조회 API - GET도 최대 개수와 빈 SKU를 검증한다")
+    void getAvailability_Fail_InvalidQuery() throws Exception {
+        // Given
+        String[] tooManySkus = IntStream.rangeClosed(1, 1001)
+                .mapToObj(i -> "sku-" + i)
+                .toArray(String[]::new);
+
+        // When & Then
+        mockMvc.perform(get("/api/stocks/availability")
+                        .param("skus", tooManySkus))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("한 번에 조회할 수 있는 SKU는 최대 1000개입니다."));
+
+        mockMvc.perform(get("/api/stocks/availability")
+                        .param("skus", "sku-1", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("SKU는 필수 입니다."));
+    }
+
     @Test
     @DisplayName("재고 조회 API - 성공")
     void getStock_Success() throws Exception {
@@ -199,6 +281,28 @@ class StockApiTest {
                 .andExpect(jsonPath("$.data").value(80)); // 100 - 20 = 80
     }
 
+    @Test
+    @DisplayName("재고 감소 API - 같은 멱등 키로 재요청하면 다시 차감하지 않는다")
+    void decreaseStock_IdempotentRetry() throws Exception {
+        // Given
+        Stock savedStock = stockRepository.save(Stock.register("test-product-idempotent", 100L));
+        StockUpdateRequest request = new StockUpdateRequest(20L);
+
+        // When & Then
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(patch("/api/stocks/{stockId}/decrease", savedStock.getSku())
+                            .header("Idempotency-Key", "order-1-decrease")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data").value(80));
+        }
+
+        mockMvc.perform(get("/api/stocks/{stockId}/quantity", savedStock.getSku()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(80));
+    }
+
     @Test
     @DisplayName("재고 감소 API - 실패 (재고 부족)")
     void decreaseStock_Fail_InsufficientStock() throws Exception {
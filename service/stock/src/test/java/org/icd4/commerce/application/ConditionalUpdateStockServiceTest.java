@@ -0,0 +1,53 @@
+package org.icd4.commerce.application;
+
+import org.icd4.commerce.domain.Stock;
+import org.icd4.commerce.domain.StockStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "stock.conditional-update.enabled=true")
+@Transactional
+class ConditionalUpdateStockServiceTest {
+
+    @Autowired
+    private StockService stockService;
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드: 증감 결과와 상태가 엔티티 방식과 같다")
+    void increaseAndDecrease() {
+        // Given
+        Stock stock = stockService.register("conditional-service-product", 100L);
+
+        // When
+        Long decreased = stockService.decreaseQuantity(stock.getSku(), 97L);
+        Long increased = stockService.increaseQuantity(stock.getSku(), 1L);
+
+        // Then
+        assertThat(decreased).isEqualTo(3L);
+        assertThat(increased).isEqualTo(4L);
+        assertThat(stockService.checkQuantity(stock.getSku())).isEqualTo(4L);
+        assertThat(stockService.getStock(stock.getSku()).getStockStatus()).isEqualTo(StockStatus.LOW_STOCK);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드: 재고보다 많이 차감하면 아무것도 바뀌지 않는다")
+    void decrease_Fail_InsufficientStock() {
+        // Given
+        Stock stock = stockService.register("conditional-service-insufficient", 10L);
+
+        // When & Then
+        assertThatThrownBy(() -> stockService.decreaseQuantity(stock.getSku(), 11L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("현재 재고보다 많습니다");
+        assertThatThrownBy(() -> stockService.decreaseQuantity("conditional-service-unknown", 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Stock not found");
+        assertThat(stockService.checkQuantity(stock.getSku())).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,49 @@
+package org.icd4.commerce.application;
+
+import org.icd4.commerce.application.event.StockStatusChanged;
+import org.icd4.commerce.domain.StockStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "stock.hot-sku.skus=" + HotStockStatusTest.HOT_SKU)
+@Transactional
+@RecordApplicationEvents
+class HotStockStatusTest {
+    static final String HOT_SKU = "hot-status-sku";
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    @DisplayName("핫 SKU는 스냅샷 반영을 기다리지 않고 카운터가 임계치를 넘을 때 상태 전이를 발행한다")
+    void statusChangedFromCounter() {
+        // Given
+        stockService.register(HOT_SKU, 8L);
+
+        // When
+        stockService.decreaseQuantity(HOT_SKU, 3L);
+        stockService.decreaseQuantity(HOT_SKU, 2L);
+        stockService.decreaseQuantity(HOT_SKU, 3L);
+        stockService.increaseQuantity(HOT_SKU, 1L);
+
+        // Then
+        assertThat(stockService.checkQuantity(HOT_SKU)).isEqualTo(1L);
+        assertThat(applicationEvents.stream(StockStatusChanged.class))
+                .extracting(StockStatusChanged::previousStatus, StockStatusChanged::status, StockStatusChanged::quantity)
+                .containsExactly(
+                        tuple(StockStatus.AVAILABLE, StockStatus.LOW_STOCK, 5L),
+                        tuple(StockStatus.LOW_STOCK, StockStatus.OUT_OF_STOCK, 0L),
+                        tuple(StockStatus.OUT_OF_STOCK, StockStatus.LOW_STOCK, 1L));
+    }
+}
@@ -0,0 +1,66 @@
+package org.icd4.commerce.application;
+
+import org.icd4.commerce.application.retry.OptimisticRetryExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트랜잭션을 실제로 커밋해야 동시 변경이 충돌하므로 테스트 트랜잭션(@Transactional) 없이 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "stock.optimistic-retry.max-attempts=100",
+        "stock.optimistic-retry.budget-max-retries=100000"
+})
+class StockConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int DECREASES_PER_THREAD = 25;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    @Test
+    @DisplayName("여러 스레드가 같은 재고를 동시에 차감해도 차감이 유실되지 않는다")
+    void noLostUpdatesUnderParallelDecrements() throws Exception {
+        // Given
+        String sku = "concurrency-sku-" + System.nanoTime();
+        stockService.register(sku, 1_000L);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < DECREASES_PER_THREAD; j++) {
+                    stockService.decreaseQuantity(sku, 1L);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(stockService.getStock(sku).getQuantity())
+                .isEqualTo(1_000L - THREADS * DECREASES_PER_THREAD);
+        assertThat(retryExecutor.retryCount()).isEqualTo(retryExecutor.conflictCount());
+    }
+}
@@ -0,0 +1,125 @@
+package org.icd4.commerce.application;
+
+import org.icd4.commerce.application.required.StockReservationRepository;
+import org.icd4.commerce.domain.ReservationStatus;
+import org.icd4.commerce.domain.StockReservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class StockReservationServiceTest {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Test
+    @DisplayName("재고 선점 시 선점 수량만큼 재고가 차감된다")
+    void reserve_Success() {
+        // Given
+        stockService.register("reservation-product-1", 100L);
+
+        // When
+        StockReservation reservation = stockReservationService.reserve("reservation-product-1", 30L);
+
+        // Then
+        assertThat(reservation.getId()).isNotNull();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RESERVED);
+        assertThat(reservation.getExpiresAt()).isAfter(reservation.getCreatedAt());
+        assertThat(stockService.checkQuantity("reservation-product-1")).isEqualTo(70L);
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 수량은 선점할 수 없다")
+    void reserve_Fail_InsufficientStock() {
+        // Given
+        stockService.register("reservation-product-2", 10L);
+
+        // When & Then
+        assertThatThrownBy(() -> stockReservationService.reserve("reservation-product-2", 11L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("현재 재고보다 많습니다");
+        assertThat(stockService.checkQuantity("reservation-product-2")).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("선점을 확정하면 재고는 차감된 상태로 유지된다")
+    void commit_Success() {
+        // Given
+        stockService.register("reservation-product-3", 100L);
+        StockReservation reservation = stockReservationService.reserve("reservation-product-3", 30L);
+
+        // When
+        StockReservation committed = stockReservationService.commit(reservation.getId());
+
+        // Then
+        assertThat(committed.getStatus()).isEqualTo(ReservationStatus.COMMITTED);
+        assertThat(stockService.checkQuantity("reservation-product-3")).isEqualTo(70L);
+    }
+
+    @Test
+    @DisplayName("선점을 해제하면 선점 수량이 재고로 돌아간다")
+    void release_Success() {
+        // Given
+        stockService.register("reservation-product-4", 100L);
+        StockReservation reservation = stockReservationService.reserve("reservation-product-4", 30L);
+
+        // When
+        StockReservation released = stockReservationService.release(reservation.getId());
+
+        // Then
+        assertThat(released.getStatus()).isEqualTo(ReservationStatus.RELEASED);
+        assertThat(stockService.checkQuantity("reservation-product-4")).isEqualTo(100L);
+
+        // 해제된 선점은 다시 확정할 수 없다
+        assertThatThrownBy(() -> stockReservationService.commit(reservation.getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("선점 상태가 아닙니다");
+    }
+
+    @Test
+    @DisplayName("만료 처리 시 선점 중인 수량만 재고로 돌아가고, 확정된 선점은 무시된다")
+    void expire() {
+        // Given
+        stockService.register("reservation-product-5", 100L);
+        StockReservation expiring = stockReservationService.reserve("reservation-product-5", 30L);
+        StockReservation committed = stockReservationService.reserve("reservation-product-5", 20L);
+        stockReservationService.commit(committed.getId());
+
+        // When
+        stockReservationService.expire(expiring.getId());
+        stockReservationService.expire(committed.getId());
+
+        // Then
+        assertThat(stockReservationRepository.findById(expiring.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(stockReservationRepository.findById(committed.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.COMMITTED);
+        assertThat(stockService.checkQuantity("reservation-product-5")).isEqualTo(80L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선점은 확정/해제할 수 없고, 만료 처리는 무시된다")
+    void notFound() {
+        assertThatThrownBy(() -> stockReservationService.commit("non-existent-id"))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> stockReservationService.release("non-existent-id"))
+                .isInstanceOf(NoSuchElementException.class);
+
+        stockReservationService.expire("non-existent-id");
+    }
+}
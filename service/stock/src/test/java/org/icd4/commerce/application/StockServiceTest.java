@@ -1,16 +1,25 @@
 package org.icd4.commerce.application;
 
+import org.icd4.commerce.application.event.StockStatusChanged;
 import org.icd4.commerce.application.provided.StockFinder;
 import org.icd4.commerce.application.provided.StockRegister;
+import org.icd4.commerce.application.required.StockMovementRepository;
 import org.icd4.commerce.application.required.StockRepository;
 import org.icd4.commerce.domain.Stock;
+import org.icd4.commerce.domain.StockMovement;
+import org.icd4.commerce.domain.StockMovementReason;
 import org.icd4.commerce.domain.StockStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -18,6 +27,7 @@ import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
 @Transactional
+@RecordApplicationEvents
 class StockServiceTest {
 
     @Autowired
@@ -26,6 +36,12 @@ class StockServiceTest {
     @Autowired
     private StockRepository stockRepository;
 
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Test
     @DisplayName("StockService가 모든 포트 인터페이스를 구현하는지 확인")
     void implementsAllPortInterfaces() {
@@ -161,20 +177,50 @@ class StockServiceTest {
 
 
     @Test
-    @DisplayName("상태 관리 테스트: AVAILABLE과 OUT_OF_STOCK")
+    @DisplayName("상태 관리 테스트: 수량에 따라 AVAILABLE → LOW_STOCK → OUT_OF_STOCK으로 전이되고, 입고 시 되돌아온다")
     void statusManagementTest() {
         // Given
         Stock stock = stockService.register("status-test-product", 100L);
-        
+
         // 초기 상태는 AVAILABLE
         Stock foundStock = stockService.getStock(stock.getSku());
         assertThat(foundStock.getStockStatus()).isEqualTo(StockStatus.AVAILABLE);
-        
-        // 재고를 0으로 만들어도 상태는 자동으로 변경되지 않음 (도메인 로직에 따라)
-        stockService.decreaseQuantity(stock.getSku(), 100L);
+
+        // 임계치 이하로 줄면 LOW_STOCK
+        stockService.decreaseQuantity(stock.getSku(), 100L - Stock.DEFAULT_LOW_STOCK_THRESHOLD);
+        assertThat(stockService.getStock(stock.getSku()).getStockStatus()).isEqualTo(StockStatus.LOW_STOCK);
+
+        // 0이 되면 OUT_OF_STOCK
+        stockService.decreaseQuantity(stock.getSku(), Stock.DEFAULT_LOW_STOCK_THRESHOLD);
         Stock zeroStock = stockService.getStock(stock.getSku());
         assertThat(zeroStock.getQuantity()).isEqualTo(0L);
-        assertThat(zeroStock.getStockStatus()).isEqualTo(StockStatus.AVAILABLE); // 상태는 그대로
+        assertThat(zeroStock.getStockStatus()).isEqualTo(StockStatus.OUT_OF_STOCK);
+
+        // 입고되면 다시 AVAILABLE
+        stockService.increaseQuantity(stock.getSku(), 50L);
+        assertThat(stockService.getStock(stock.getSku()).getStockStatus()).isEqualTo(StockStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("상태 전이 이벤트는 상태가 바뀔 때만 발행된다")
+    void statusChangedEventsAreEdgeTriggered() {
+        // Given
+        Stock stock = stockService.register("status-event-product", 20L);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            stockService.decreaseQuantity(stock.getSku(), 1L);
+        }
+        stockService.increaseQuantity(stock.getSku(), 3L);
+
+        // Then
+        assertThat(applicationEvents.stream(StockStatusChanged.class)
+                .filter(event -> event.sku().equals(stock.getSku())))
+                .extracting(StockStatusChanged::previousStatus, StockStatusChanged::status)
+                .containsExactly(
+                        tuple(StockStatus.AVAILABLE, StockStatus.LOW_STOCK),
+                        tuple(StockStatus.LOW_STOCK, StockStatus.OUT_OF_STOCK),
+                        tuple(StockStatus.OUT_OF_STOCK, StockStatus.LOW_STOCK));
     }
 
     @Test
@@ -217,4 +263,178 @@ class StockServiceTest {
         stockService.decreaseQuantity(minStock.getSku(), 1L);
         assertThat(stockService.checkQuantity(minStock.getSku())).isEqualTo(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 SKU의 재고를 한 번에 차감한다")
+    void decreaseQuantities_Success() {
+        // Given
+        stockService.register("batch-product-b", 50L);
+        stockService.register("batch-product-a", 30L);
+
+        // When
+        Map<String, Long> result = stockService.decreaseQuantities(Map.of(
+                "batch-product-b", 20L,
+                "batch-product-a", 10L));
+
+        // Then
+        assertThat(result).containsExactly(
+                entry("batch-product-a", 20L),
+                entry("batch-product-b", 30L));
+        assertThat(stockService.checkQuantity("batch-product-a")).isEqualTo(20L);
+        assertThat(stockService.checkQuantity("batch-product-b")).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("일괄 차감 중 하나라도 재고가 부족하면 어떤 재고도 차감되지 않는다")
+    void decreaseQuantities_Fail_AllOrNothing() {
+        // Given
+        stockService.register("batch-product-c", 50L);
+        stockService.register("batch-product-d", 5L);
+
+        // When & Then
+        assertThatThrownBy(() -> stockService.decreaseQuantities(Map.of(
+                "batch-product-c", 20L,
+                "batch-product-d", 10L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("현재 재고보다 많습니다");
+        assertThat(stockService.checkQuantity("batch-product-c")).isEqualTo(50L);
+        assertThat(stockService.checkQuantity("batch-product-d")).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 대상에 존재하지 않는 SKU가 있으면 예외가 발생한다")
+    void increaseQuantities_Fail_NotFound() {
+        // Given
+        stockService.register("batch-product-e", 50L);
+
+        // When & Then
+        assertThatThrownBy(() -> stockService.increaseQuantities(Map.of(
+                "batch-product-e", 10L,
+                "non-existent-batch-product", 10L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Stock not found");
+        assertThat(stockService.checkQuantity("batch-product-e")).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 재요청하면 재고를 다시 변경하지 않고 처음 결과를 반환한다")
+    void decreaseQuantity_Idempotent() {
+        // Given
+        stockService.register("idempotent-product", 100L);
+
+        // When
+        Long first = stockService.decreaseQuantity("idempotent-product", 30L, "idempotency-key-1");
+        stockService.increaseQuantity("idempotent-product", 5L);
+        Long retried = stockService.decreaseQuantity("idempotent-product", 30L, "idempotency-key-1");
+
+        // Then
+        assertThat(first).isEqualTo(70L);
+        assertThat(retried).isEqualTo(70L);
+        assertThat(stockService.checkQuantity("idempotent-product")).isEqualTo(75L);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 일괄 차감을 재요청하면 다시 차감하지 않는다")
+    void decreaseQuantities_Idempotent() {
+        // Given
+        stockService.register("idempotent-batch-a", 10L);
+        stockService.register("idempotent-batch-b", 20L);
+        Map<String, Long> quantities = Map.of("idempotent-batch-a", 1L, "idempotent-batch-b", 2L);
+
+        // When
+        Map<String, Long> first = stockService.decreaseQuantities(quantities, "order-1");
+        Map<String, Long> retried = stockService.decreaseQuantities(quantities, "order-1");
+
+        // Then
+        assertThat(retried).isEqualTo(first);
+        assertThat(stockService.checkQuantity("idempotent-batch-a")).isEqualTo(9L);
+        assertThat(stockService.checkQuantity("idempotent-batch-b")).isEqualTo(18L);
+    }
+
+    @Test
+    @DisplayName("재고 변경은 변경 사유와 참조 ID와 함께 원장에 기록된다")
+    void movementsAreRecorded() {
+        // Given
+        stockService.register("ledger-audit-product", 100L);
+
+        // When
+        stockService.decreaseQuantity("ledger-audit-product", 30L, "order-1");
+        stockService.increaseQuantity("ledger-audit-product", 10L);
+
+        // Then
+        assertThat(stockMovementRepository.findAllBySkuOrderByIdAsc("ledger-audit-product"))
+                .extracting(StockMovement::getDelta, StockMovement::getReason, StockMovement::getReferenceId)
+                .containsExactly(
+                        tuple(100L, StockMovementReason.REGISTER, null),
+                        tuple(-30L, StockMovementReason.DECREASE, "order-1"),
+                        tuple(10L, StockMovementReason.INCREASE, null));
+    }
+
+    @Test
+    @DisplayName("여러 SKU의 재고를 한 번에 등록한다")
+    void registerAll_Success() {
+        // Given
+        Map<String, Long> quantities = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            quantities.put("bulk-register-product-" + i, (long) i + 1);
+        }
+
+        // When
+        List<Stock> stocks = stockService.registerAll(quantities);
+
+        // Then
+        assertThat(stocks).hasSize(100);
+        assertThat(stockService.checkQuantity("bulk-register-product-0")).isEqualTo(1L);
+        assertThat(stockService.checkQuantity("bulk-register-product-99")).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 일괄 등록을 다시 요청하면 중복 오류 없이 등록된 재고를 반환한다")
+    void registerAll_Idempotent() {
+        // Given: 첫 요청은 반영되었지만 호출한 쪽이 응답을 받지 못한 상황
+        Map<String, Long> quantities = Map.of("idempotent-bulk-1", 10L, "idempotent-bulk-2", 20L);
+        stockService.registerAll(quantities, "bulk-key");
+
+        // When
+        List<Stock> retried = stockService.registerAll(quantities, "bulk-key");
+
+        // Then
+        assertThat(retried).extracting(Stock::getSku)
+                .containsExactly("idempotent-bulk-1", "idempotent-bulk-2");
+        assertThat(stockService.checkQuantity("idempotent-bulk-1")).isEqualTo(10L);
+        assertThat(stockService.checkQuantity("idempotent-bulk-2")).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("여러 SKU의 재고를 한 번에 조회하고, 없는 SKU는 결과에서 제외한다")
+    void checkQuantities() {
+        // Given
+        stockService.register("availability-product-1", 10L);
+        stockService.register("availability-product-2", 20L);
+        stockService.decreaseQuantity("availability-product-2", 5L);
+
+        // When
+        Map<String, Long> quantities = stockService.checkQuantities(
+                List.of("availability-product-1", "availability-product-2", "non-existent-product"));
+
+        // Then
+        assertThat(quantities).containsExactly(
+                entry("availability-product-1", 10L),
+                entry("availability-product-2", 15L));
+    }
+
+    @Test
+    @DisplayName("이미 등록된 SKU는 다시 등록할 수 없다")
+    void register_Fail_DuplicateSku() {
+        // Given
+        stockService.register("duplicate-product", 10L);
+
+        // When & Then
+        assertThatThrownBy(() -> stockService.register("duplicate-product", 20L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 등록된 SKU");
+        assertThatThrownBy(() -> stockService.registerAll(Map.of("duplicate-product", 20L, "new-product", 5L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 등록된 SKU");
+    }
+}
@@ -0,0 +1,116 @@
+package org.icd4.commerce.application;
+
+import org.icd4.commerce.domain.WarehouseAllocation;
+import org.icd4.commerce.domain.WarehouseStock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+class WarehouseStockServiceTest {
+
+    @Autowired
+    private WarehouseStockService warehouseStockService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Test
+    @DisplayName("창고에 입고하면 창고 재고와 SKU 전체 재고가 함께 증가한다")
+    void receive() {
+        // Given
+        warehouseStockService.registerWarehouse("receive-wh-1", "서울", 37.5665, 126.9780);
+        warehouseStockService.registerWarehouse("receive-wh-2", "부산", 35.1796, 129.0756);
+
+        // When
+        warehouseStockService.receive("receive-wh-1", "warehouse-receive-sku", 30L);
+        warehouseStockService.receive("receive-wh-2", "warehouse-receive-sku", 20L);
+        warehouseStockService.receive("receive-wh-1", "warehouse-receive-sku", 5L);
+
+        // Then
+        assertThat(warehouseStockService.getWarehouseStocks("warehouse-receive-sku"))
+                .extracting(WarehouseStock::getWarehouseId, WarehouseStock::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple("receive-wh-1", 35L),
+                        tuple("receive-wh-2", 20L));
+        assertThat(stockService.checkQuantity("warehouse-receive-sku")).isEqualTo(55L);
+    }
+
+    @Test
+    @DisplayName("할당하면 가까운 창고의 재고만 차감되고 판매 가능 수량은 변하지 않는다")
+    void allocate() {
+        // Given
+        warehouseStockService.registerWarehouse("allocate-wh-seoul", "서울", 37.5665, 126.9780);
+        warehouseStockService.registerWarehouse("allocate-wh-busan", "부산", 35.1796, 129.0756);
+        warehouseStockService.receive("allocate-wh-seoul", "warehouse-allocate-sku", 3L);
+        warehouseStockService.receive("allocate-wh-busan", "warehouse-allocate-sku", 10L);
+
+        // When - 서울 강남 배송지, 서울 창고만으로는 부족
+        List<WarehouseAllocation> allocations =
+                warehouseStockService.allocate("warehouse-allocate-sku", 5L, 37.4979, 127.0276);
+
+        // Then - 부산 창고 한 곳에서 전량 출고
+        assertThat(allocations).containsExactly(new WarehouseAllocation("allocate-wh-busan", 5L));
+        assertThat(stockService.checkQuantity("warehouse-allocate-sku")).isEqualTo(13L);
+
+        // 서울 창고 재고로 충분하면 서울 창고에서 출고
+        assertThat(warehouseStockService.allocate("warehouse-allocate-sku", 2L, 37.4979, 127.0276))
+                .containsExactly(new WarehouseAllocation("allocate-wh-seoul", 2L));
+        assertThat(warehouseStockService.getWarehouseStocks("warehouse-allocate-sku"))
+                .extracting(WarehouseStock::getWarehouseId, WarehouseStock::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple("allocate-wh-seoul", 1L),
+                        tuple("allocate-wh-busan", 5L));
+    }
+
+    @Test
+    @DisplayName("주문으로 차감한 수량을 할당해도 판매 가능 수량은 한 번만 차감된다")
+    void decreaseThenAllocate() {
+        // Given
+        warehouseStockService.registerWarehouse("order-wh-seoul", "서울", 37.5665, 126.9780);
+        warehouseStockService.registerWarehouse("order-wh-busan", "부산", 35.1796, 129.0756);
+        warehouseStockService.receive("order-wh-seoul", "warehouse-order-sku", 4L);
+        warehouseStockService.receive("order-wh-busan", "warehouse-order-sku", 6L);
+
+        // When - 주문 시 판매 가능 수량 차감 후 출고 창고 할당
+        stockService.decreaseQuantity("warehouse-order-sku", 7L);
+        List<WarehouseAllocation> allocations =
+                warehouseStockService.allocate("warehouse-order-sku", 7L, 37.4979, 127.0276);
+
+        // Then
+        assertThat(stockService.checkQuantity("warehouse-order-sku")).isEqualTo(3L);
+        assertThat(allocations).extracting(WarehouseAllocation::quantity).containsOnly(4L, 3L);
+        assertThat(warehouseStockService.getWarehouseStocks("warehouse-order-sku"))
+                .extracting(WarehouseStock::getQuantity)
+                .containsExactlyInAnyOrder(0L, 3L);
+        long remainingInWarehouses = warehouseStockService.getWarehouseStocks("warehouse-order-sku").stream()
+                .mapToLong(WarehouseStock::getQuantity)
+                .sum();
+        assertThat(remainingInWarehouses).isEqualTo(stockService.checkQuantity("warehouse-order-sku"));
+    }
+
+    @Test
+    @DisplayName("창고 재고 합계보다 많이 할당할 수 없고, 없는 창고에는 입고할 수 없다")
+    void allocate_Fail() {
+        // Given
+        warehouseStockService.registerWarehouse("fail-wh", "서울", 37.5665, 126.9780);
+        warehouseStockService.receive("fail-wh", "warehouse-fail-sku", 3L);
+
+        // When & Then
+        assertThatThrownBy(() -> warehouseStockService.allocate("warehouse-fail-sku", 4L, 37.4979, 127.0276))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> warehouseStockService.receive("unknown-wh", "warehouse-fail-sku", 1L))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(stockService.checkQuantity("warehouse-fail-sku")).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,83 @@
+package org.icd4.commerce.application.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockQuantityCacheTest {
+
+    @Test
+    @DisplayName("처음 조회는 미적중으로 loader를 호출하고, 이후 조회는 캐시에서 적중한다")
+    void readThrough() {
+        // Given
+        StockQuantityCache cache = new StockQuantityCache(10, new SimpleMeterRegistry());
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When
+        Long first = cache.get("SKU-001", () -> { loadCount.incrementAndGet(); return 100L; });
+        Long second = cache.get("SKU-001", () -> { loadCount.incrementAndGet(); return 100L; });
+
+        // Then
+        assertThat(first).isEqualTo(100L);
+        assertThat(second).isEqualTo(100L);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 SKU는 다시 loader로 조회한다")
+    void invalidate() {
+        // Given
+        StockQuantityCache cache = new StockQuantityCache(10, new SimpleMeterRegistry());
+        cache.get("SKU-001", () -> 100L);
+
+        // When
+        cache.invalidate("SKU-001");
+        Long reloaded = cache.get("SKU-001", () -> 70L);
+
+        // Then
+        assertThat(reloaded).isEqualTo(70L);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화된 값은 캐시에 올리지 않는다")
+    void skipPutWhenInvalidatedDuringLoad() {
+        // Given
+        StockQuantityCache cache = new StockQuantityCache(10, new SimpleMeterRegistry());
+
+        // When - 조회 중에 다른 요청이 재고를 변경
+        cache.get("SKU-001", () -> {
+            cache.invalidate("SKU-001");
+            return 100L;
+        });
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 SKU부터 제거된다")
+    void evictLeastRecentlyUsed() {
+        // Given
+        StockQuantityCache cache = new StockQuantityCache(2, new SimpleMeterRegistry());
+        cache.get("SKU-001", () -> 1L);
+        cache.get("SKU-002", () -> 2L);
+        cache.get("SKU-001", () -> 1L);
+
+        // When
+        cache.get("SKU-003", () -> 3L);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get("SKU-001", () -> { loadCount.incrementAndGet(); return 1L; });
+        cache.get("SKU-002", () -> { loadCount.incrementAndGet(); return 2L; });
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,126 @@
+package org.icd4.commerce.application.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotStockCounterTest {
+    private static final String HOT_SKU = "hot-sku";
+
+    @Test
+    @DisplayName("핫 SKU 여부는 설정된 목록으로 판단한다")
+    void isHot() {
+        HotStockCounter counter = new HotStockCounter(List.of(HOT_SKU, " ", ""));
+
+        assertThat(counter.isHot(HOT_SKU)).isTrue();
+        assertThat(counter.isHot("cold-sku")).isFalse();
+        assertThat(counter.isHot("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("최초 접근 시 DB 수량으로 적재되고 이후에는 메모리 값으로 증감된다")
+    void loadOnceAndMutate() {
+        // Given
+        HotStockCounter counter = new HotStockCounter(List.of(HOT_SKU));
+        AtomicLong loadCount = new AtomicLong();
+
+        // When
+        counter.decrease(HOT_SKU, 30L, () -> { loadCount.incrementAndGet(); return 100L; });
+        counter.increase(HOT_SKU, 10L, () -> { loadCount.incrementAndGet(); return 100L; });
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(counter.quantityOf(HOT_SKU, () -> 0L)).isEqualTo(80L);
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 수량을 차감하면 예외가 발생하고 재고는 변하지 않는다")
+    void decrease_Fail_InsufficientStock() {
+        HotStockCounter counter = new HotStockCounter(List.of(HOT_SKU));
+
+        assertThatThrownBy(() -> counter.decrease(HOT_SKU, 11L, () -> 10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("현재 재고보다 많습니다");
+        assertThat(counter.quantityOf(HOT_SKU, () -> 0L)).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("0 이하의 수량으로 증감하면 예외가 발생한다")
+    void mutate_Fail_InvalidQuantity() {
+        HotStockCounter counter = new HotStockCounter(List.of(HOT_SKU));
+
+        assertThatThrownBy(() -> counter.increase(HOT_SKU, 0L, () -> 10L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> counter.decrease(HOT_SKU, -1L, () -> 10L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("롤백된 변경분은 검증 없이 되돌려진다")
+    void revert() {
+        HotStockCounter counter = new HotStockCounter(List.of(HOT_SKU));
+        counter.decrease(HOT_SKU, 10L, () -> 10L);
+
+        counter.revert(HOT_SKU, 10L);
+
+        assertThat(counter.quantityOf(HOT_SKU, () -> 0L)).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("동시성 스트레스: 64개 스레드가 하나의 SKU를 차감해도 초과 판매가 발생하지 않는다")
+    void stress_NoOversellUnderContention() throws InterruptedException {
+        // Given
+        int threadCount = 64;
+        long initialQuantity = 200_000L;
+        HotStockCounter counter = new HotStockCounter(List.of(HOT_SKU));
+        counter.quantityOf(HOT_SKU, () -> initialQuantity);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        // When - 재고가 모두 소진될 때까지 각 스레드가 1개씩 차감
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    while (true) {
+                        counter.decrease(HOT_SKU, 1L, () -> initialQuantity);
+                        succeeded.incrementAndGet();
+                    }
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // Then
+        assertThat(succeeded.get()).isEqualTo(initialQuantity);
+        assertThat(rejected.get()).isEqualTo(threadCount);
+        assertThat(counter.quantityOf(HOT_SKU, () -> 0L)).isZero();
+
+        System.out.printf("[HotStockCounter] threads=%d, decrements=%d, elapsed=%dms, throughput=%.0f decrements/sec%n",
+                threadCount, succeeded.get(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                succeeded.get() * 1_000_000_000.0 / elapsedNanos);
+    }
+}
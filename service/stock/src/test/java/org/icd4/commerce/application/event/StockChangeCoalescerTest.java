@@ -0,0 +1,97 @@
+package org.icd4.commerce.application.event;
+
+import org.icd4.commerce.application.provided.StockFinder;
+import org.icd4.commerce.application.required.StockChangePublisher;
+import org.icd4.commerce.event.stock.StockQuantityChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockChangeCoalescerTest {
+
+    @Test
+    @DisplayName("한 주기 동안 같은 SKU가 여러 번 변경되면 최신 수량으로 한 번만 발행된다")
+    void coalesceBySku() {
+        // Given
+        StockFinder stockFinder = mock(StockFinder.class);
+        StockChangePublisher publisher = mock(StockChangePublisher.class);
+        StockChangeCoalescer coalescer = new StockChangeCoalescer(stockFinder, publisher);
+        when(stockFinder.checkQuantities(anyCollection()))
+                .thenReturn(Map.of("coalesce-sku-1", 7L, "coalesce-sku-2", 3L));
+
+        coalescer.onStockChanged(new StockChanged("coalesce-sku-1"));
+        coalescer.onStockChanged(new StockChanged("coalesce-sku-1"));
+        coalescer.onStockChanged(new StockChanged("coalesce-sku-1"));
+        coalescer.onStockChanged(new StockChanged("coalesce-sku-2"));
+
+        // When
+        coalescer.flush();
+        coalescer.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> skus = ArgumentCaptor.forClass(Collection.class);
+        verify(stockFinder, times(1)).checkQuantities(skus.capture());
+        assertThat(skus.getValue()).containsExactlyInAnyOrder("coalesce-sku-1", "coalesce-sku-2");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockQuantityChangedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(publisher, times(1)).publish(events.capture());
+        assertThat(events.getValue())
+                .extracting(StockQuantityChangedEvent::sku, StockQuantityChangedEvent::quantity)
+                .containsExactlyInAnyOrder(
+                        tuple("coalesce-sku-1", 7L),
+                        tuple("coalesce-sku-2", 3L));
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 SKU는 다음 주기에 다시 발행된다")
+    void retryOnFailure() {
+        // Given
+        StockFinder stockFinder = mock(StockFinder.class);
+        StockChangePublisher publisher = mock(StockChangePublisher.class);
+        StockChangeCoalescer coalescer = new StockChangeCoalescer(stockFinder, publisher);
+        when(stockFinder.checkQuantities(anyCollection())).thenReturn(Map.of("retry-sku", 5L));
+        doThrow(new IllegalStateException("publish failed")).doNothing().when(publisher).publish(any());
+        coalescer.onStockChanged(new StockChanged("retry-sku"));
+
+        // When
+        coalescer.flush();
+        coalescer.flush();
+        coalescer.flush();
+
+        // Then
+        verify(publisher, times(2)).publish(any());
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 조회도 발행도 하지 않는다")
+    void nothingToFlush() {
+        // Given
+        StockFinder stockFinder = mock(StockFinder.class);
+        StockChangePublisher publisher = mock(StockChangePublisher.class);
+        StockChangeCoalescer coalescer = new StockChangeCoalescer(stockFinder, publisher);
+
+        // When
+        coalescer.flush();
+
+        // Then
+        verify(stockFinder, never()).checkQuantities(anyCollection());
+        verify(publisher, never()).publish(any());
+    }
+}
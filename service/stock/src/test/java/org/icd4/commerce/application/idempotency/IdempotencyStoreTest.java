@@ -0,0 +1,101 @@
+package org.icd4.commerce.application.idempotency;
+
+import org.icd4.commerce.application.required.IdempotencyRecordRepository;
+import org.icd4.commerce.domain.IdempotencyRecord;
+import org.icd4.commerce.domain.StockMovementReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Test
+    @DisplayName("최근에 기록된 요청은 테이블을 조회하지 않고 메모리 링에서 찾는다")
+    void findFromRing() {
+        // Given
+        IdempotencyStore store = new IdempotencyStore(idempotencyRecordRepository, 10, 60, 100, 24);
+        store.record("key-1", "SKU-001", StockMovementReason.DECREASE, 30L, 70L);
+
+        // When
+        Optional<Long> found = store.find("key-1", "SKU-001", StockMovementReason.DECREASE, 30L);
+
+        // Then
+        assertThat(found).contains(70L);
+        verify(idempotencyRecordRepository).saveAndFlush(any(IdempotencyRecord.class));
+        verify(idempotencyRecordRepository, never()).findById("key-1");
+    }
+
+    @Test
+    @DisplayName("링에서 밀려난 요청은 테이블에서 찾는다")
+    void findFromTableAfterBucketExpired() throws InterruptedException {
+        // Given
+        IdempotencyStore store = new IdempotencyStore(idempotencyRecordRepository, 1, 1, 100, 24);
+        store.record("key-1", "SKU-001", StockMovementReason.DECREASE, 30L, 70L);
+        when(idempotencyRecordRepository.findById("key-1"))
+                .thenReturn(Optional.of(IdempotencyRecord.of("key-1", "SKU-001", StockMovementReason.DECREASE, 30L, 70L)));
+
+        // When
+        Thread.sleep(1_100);
+        Optional<Long> found = store.find("key-1", "SKU-001", StockMovementReason.DECREASE, 30L);
+
+        // Then
+        assertThat(found).contains(70L);
+        verify(idempotencyRecordRepository).findById("key-1");
+    }
+
+    @Test
+    @DisplayName("처리된 적 없는 요청은 빈 값을 반환한다")
+    void findUnknown() {
+        // Given
+        IdempotencyStore store = new IdempotencyStore(idempotencyRecordRepository, 10, 60, 100, 24);
+        when(idempotencyRecordRepository.findById("unknown")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(store.find("unknown", "SKU-001", StockMovementReason.DECREASE, 30L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키를 다른 SKU, 변경 종류, 수량의 요청에 쓰면 예외가 발생한다")
+    void findMismatch() {
+        // Given
+        IdempotencyStore store = new IdempotencyStore(idempotencyRecordRepository, 10, 60, 100, 24);
+        store.record("key-1", "SKU-001", StockMovementReason.DECREASE, 30L, 70L);
+
+        // When & Then
+        assertThatThrownBy(() -> store.find("key-1", "SKU-002", StockMovementReason.DECREASE, 30L))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThatThrownBy(() -> store.find("key-1", "SKU-001", StockMovementReason.INCREASE, 30L))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThatThrownBy(() -> store.find("key-1", "SKU-001", StockMovementReason.DECREASE, 31L))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키의 기록이 이미 있어 기본 키가 충돌하면 중복 요청 예외로 바꿔 던진다")
+    void recordDuplicate() {
+        // Given
+        IdempotencyStore store = new IdempotencyStore(idempotencyRecordRepository, 10, 60, 100, 24);
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When & Then
+        assertThatThrownBy(() -> store.record("key-1", "SKU-001", StockMovementReason.DECREASE, 30L, 70L))
+                .isInstanceOf(DuplicateIdempotentRequestException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package org.icd4.commerce.application.ledger;
+
+import org.icd4.commerce.application.StockService;
+import org.icd4.commerce.application.required.StockMovementRepository;
+import org.icd4.commerce.domain.StockMovement;
+import org.icd4.commerce.domain.StockMovementReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "stock.hot-sku.skus=" + StockLedgerTest.HOT_SKU)
+@Transactional
+class StockLedgerTest {
+    static final String HOT_SKU = "ledger-hot-sku";
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Test
+    @DisplayName("핫 SKU의 변경분은 메모리에 쌓이지 않고 요청 트랜잭션 안에서 미반영 이력으로 저장된다")
+    void hotSkuMovementsAreWrittenInRequestTransaction() {
+        // Given
+        stockService.register(HOT_SKU, 10L);
+
+        // When
+        stockService.decreaseQuantity(HOT_SKU, 3L);
+        stockService.increaseQuantity(HOT_SKU, 1L);
+
+        // Then
+        assertThat(stockMovementRepository.findAllBySkuOrderByIdAsc(HOT_SKU))
+                .extracting(StockMovement::getDelta, StockMovement::getReason, StockMovement::isApplied)
+                .containsExactly(
+                        tuple(10L, StockMovementReason.REGISTER, true),
+                        tuple(-3L, StockMovementReason.DECREASE, false),
+                        tuple(1L, StockMovementReason.INCREASE, false));
+        assertThat(stockService.checkQuantity(HOT_SKU)).isEqualTo(8L);
+    }
+}
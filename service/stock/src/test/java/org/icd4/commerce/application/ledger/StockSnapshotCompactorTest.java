@@ -0,0 +1,61 @@
+package org.icd4.commerce.application.ledger;
+
+import org.icd4.commerce.application.StockService;
+import org.icd4.commerce.application.required.StockMovementRepository;
+import org.icd4.commerce.domain.StockMovement;
+import org.icd4.commerce.domain.StockMovementReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class StockSnapshotCompactorTest {
+
+    @Autowired
+    private StockSnapshotCompactor stockSnapshotCompactor;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private StockService stockService;
+
+    @Test
+    @DisplayName("현재 재고는 스냅샷과 미반영 변경분의 합이다")
+    void currentQuantityIsSnapshotPlusTail() {
+        // Given
+        stockService.register("ledger-product-1", 100L);
+
+        // When
+        stockMovementRepository.save(StockMovement.pending("ledger-product-1", -30L, StockMovementReason.DECREASE, null));
+        stockMovementRepository.save(StockMovement.pending("ledger-product-1", 5L, StockMovementReason.INCREASE, null));
+
+        // Then
+        assertThat(stockService.getStock("ledger-product-1").getQuantity()).isEqualTo(100L);
+        assertThat(stockService.checkQuantity("ledger-product-1")).isEqualTo(75L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 작업은 미반영 변경분을 Stock 수량에 합산하고 반영 완료로 표시한다")
+    void compact() {
+        // Given
+        stockService.register("ledger-product-2", 100L);
+        stockMovementRepository.save(StockMovement.pending("ledger-product-2", -30L, StockMovementReason.DECREASE, null));
+        stockMovementRepository.save(StockMovement.pending("ledger-product-2", -20L, StockMovementReason.DECREASE, null));
+
+        // When
+        stockSnapshotCompactor.compact();
+
+        // Then
+        assertThat(stockService.getStock("ledger-product-2").getQuantity()).isEqualTo(50L);
+        assertThat(stockService.checkQuantity("ledger-product-2")).isEqualTo(50L);
+        assertThat(stockMovementRepository.findAllBySkuOrderByIdAsc("ledger-product-2"))
+                .hasSize(3)
+                .allMatch(StockMovement::isApplied);
+    }
+}
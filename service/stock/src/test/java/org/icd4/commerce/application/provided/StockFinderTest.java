@@ -178,16 +178,16 @@ class StockFinderTest {
     }
 
     @Test
-    @DisplayName("UUID 형태의 재고 ID로 조회")
-    void checkQuantity_ValidUUIDFormat() {
+    @DisplayName("ULID 형태의 재고 ID로 조회")
+    void checkQuantity_ValidULIDFormat() {
         // Given
-        Stock savedStock = stockRepository.save(Stock.register("test-product-uuid", 250L));
+        Stock savedStock = stockRepository.save(Stock.register("test-product-ulid", 250L));
 
         // When
         Long quantity = stockFinder.checkQuantity(savedStock.getSku());
 
         // Then
         assertThat(quantity).isEqualTo(250L);
-        assertThat(savedStock.getId()).matches("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+        assertThat(savedStock.getId()).matches("^[0-9A-HJKMNP-TV-Z]{26}$");
     }
 } 
\ No newline at end of file
@@ -1,6 +1,8 @@
 package org.icd4.commerce.application.required;
 
 import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.icd4.commerce.common.idgenerator.ULIDUtils;
 import org.icd4.commerce.domain.Stock;
 import org.icd4.commerce.domain.StockStatus;
 import org.junit.jupiter.api.DisplayName;
@@ -9,10 +11,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static java.lang.Thread.sleep;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -188,39 +193,75 @@ class StockRepositoryTest {
     }
 
     @Test
-    @DisplayName("동일한 상품 ID로 여러 재고 저장 (다른 재고 ID)")
-    void save_SameProductIdDifferentStockId() {
+    @DisplayName("동일한 SKU로 재고를 두 번 저장하면 유니크 인덱스 위반")
+    void save_SameSkuViolatesUniqueIndex() {
         // Given
         String sameProductId = "same-product-id";
-        Stock stock1 = Stock.register(sameProductId, 100L);
-        Stock stock2 = Stock.register(sameProductId, 200L);
+        stockRepository.save(Stock.register(sameProductId, 100L));
+        entityManager.flush();
 
         // When
-        Stock savedStock1 = stockRepository.save(stock1);
-        Stock savedStock2 = stockRepository.save(stock2);
-        entityManager.flush();
+        stockRepository.save(Stock.register(sameProductId, 200L));
 
         // Then
-        assertThat(savedStock1.getId()).isNotEqualTo(savedStock2.getId());
-        assertThat(savedStock1.getSku()).isEqualTo(sameProductId);
-        assertThat(savedStock2.getSku()).isEqualTo(sameProductId);
-        assertThat(savedStock1.getQuantity()).isEqualTo(100L);
-        assertThat(savedStock2.getQuantity()).isEqualTo(200L);
+        assertThatThrownBy(() -> entityManager.flush())
+                .isInstanceOf(ConstraintViolationException.class);
     }
 
     @Test
-    @DisplayName("UUID 형태의 ID 생성 확인")
-    void save_UUIDFormat() {
+    @DisplayName("시간순으로 정렬되는 ULID 형태의 ID 생성 확인")
+    void save_ULIDFormat() {
         // Given
-        Stock stock = Stock.register("uuid-test-product", 50L);
+        Stock first = Stock.register("ulid-test-product-1", 50L);
+        Stock second = Stock.register("ulid-test-product-2", 50L);
 
         // When
-        Stock savedStock = stockRepository.save(stock);
+        Stock savedFirst = stockRepository.save(first);
+        Stock savedSecond = stockRepository.save(second);
+
+        // Then
+        assertThat(ULIDUtils.isValid(savedFirst.getId())).isTrue();
+        assertThat(savedFirst.getId()).matches("^[0-9A-HJKMNP-TV-Z]{26}$");
+        assertThat(ULIDUtils.extractTimestamp(savedSecond.getId()))
+                .isAfterOrEqualTo(ULIDUtils.extractTimestamp(savedFirst.getId()));
+    }
+
+    @Test
+    @DisplayName("SKU 존재 여부와 등록된 SKU 목록 조회")
+    void existsBySku_And_findSkusBySkuIn() {
+        // Given
+        stockRepository.save(Stock.register("exists-product-1", 10L));
+        stockRepository.save(Stock.register("exists-product-2", 10L));
+
+        // When & Then
+        assertThat(stockRepository.existsBySku("exists-product-1")).isTrue();
+        assertThat(stockRepository.existsBySku("non-existent-product")).isFalse();
+        assertThat(stockRepository.findSkusBySkuIn(List.of("exists-product-2", "non-existent-product")))
+                .containsExactly("exists-product-2");
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 차감 - 재고가 충분할 때만 한 행이 바뀌고, 상태와 버전도 함께 갱신된다")
+    void decreaseQuantityIfAvailable() {
+        // Given
+        Stock stock = stockRepository.save(Stock.register("conditional-update-product", 10L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int decreased = stockRepository.decreaseQuantityIfAvailable(stock.getSku(), 7L, LocalDateTime.now());
+        int rejected = stockRepository.decreaseQuantityIfAvailable(stock.getSku(), 4L, LocalDateTime.now());
+        int increased = stockRepository.increaseQuantityBySku(stock.getSku(), 1L, LocalDateTime.now());
 
         // Then
-        String stockId = savedStock.getId();
-        assertThat(stockId).isNotNull();
-        assertThat(stockId).matches("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+        assertThat(decreased).isEqualTo(1);
+        assertThat(rejected).isZero();
+        assertThat(increased).isEqualTo(1);
+
+        Stock found = stockRepository.findBySku(stock.getSku()).orElseThrow();
+        assertThat(found.getQuantity()).isEqualTo(4L);
+        assertThat(found.getStockStatus()).isEqualTo(StockStatus.LOW_STOCK);
+        assertThat(found.getVersion()).isEqualTo(2L);
     }
 
     @Test
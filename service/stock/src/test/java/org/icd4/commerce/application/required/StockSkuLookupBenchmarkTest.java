@@ -0,0 +1,108 @@
+package org.icd4.commerce.application.required;
+
+import org.icd4.commerce.common.idgenerator.ULIDUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 100만 건의 재고에서 SKU로 조회할 때의 지연 시간 비교.
+ *
+ * <p>변경 전: UUID 기본 키 + 인덱스 없는 sku 컬럼 / 변경 후: ULID 기본 키 + sku 유니크 인덱스.
+ * 실행: {@code ./gradlew :service:stock:test --tests "*StockSkuLookupBenchmarkTest" -Dbenchmark=true}</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StockSkuLookupBenchmarkTest {
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Test
+    @DisplayName("벤치마크: 100만 건에서 SKU 조회 지연 시간 (인덱스 없음 vs 유니크 인덱스)")
+    void lookupLatency() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:stock-benchmark", "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table stock_before (id varchar(36) primary key, sku varchar(255), quantity bigint)");
+                statement.execute("create table stock_after (id varchar(26) primary key, sku varchar(255) not null, quantity bigint)");
+                statement.execute("create unique index uk_stock_after_sku on stock_after (sku)");
+            }
+
+            long beforeInsertNanos = insert(connection, "stock_before", () -> UUID.randomUUID().toString());
+            long afterInsertNanos = insert(connection, "stock_after", ULIDUtils::generate);
+
+            // 인덱스가 없으면 조회마다 전체 스캔이므로 조회 횟수를 줄여서 측정합니다.
+            long[] before = lookup(connection, "stock_before", 200);
+            long[] after = lookup(connection, "stock_after", 100_000);
+
+            System.out.printf("[StockSkuLookup] rows=%d%n", ROW_COUNT);
+            System.out.printf("[StockSkuLookup] insert  before(UUID)=%dms, after(ULID+unique index)=%dms%n",
+                    beforeInsertNanos / 1_000_000, afterInsertNanos / 1_000_000);
+            print("before (no index)", before);
+            print("after (unique index)", after);
+
+            assertThat(percentile(after, 50)).isLessThan(percentile(before, 50));
+        }
+    }
+
+    private long insert(Connection connection, String table, Supplier<String> idGenerator) throws SQLException {
+        long startedAt = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into " + table + " (id, sku, quantity) values (?, ?, ?)")) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                statement.setString(1, idGenerator.get());
+                statement.setString(2, "SKU-" + i);
+                statement.setLong(3, 100L);
+                statement.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        connection.setAutoCommit(true);
+        return System.nanoTime() - startedAt;
+    }
+
+    private long[] lookup(Connection connection, String table, int count) throws SQLException {
+        long[] latencies = new long[count];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select quantity from " + table + " where sku = ?")) {
+            for (int i = 0; i < count; i++) {
+                statement.setString(1, "SKU-" + ThreadLocalRandom.current().nextInt(ROW_COUNT));
+                long startedAt = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertThat(resultSet.next()).isTrue();
+                }
+                latencies[i] = System.nanoTime() - startedAt;
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void print(String label, long[] sortedLatencies) {
+        System.out.printf("[StockSkuLookup] %-22s lookups=%d, p50=%.1fus, p99=%.1fus, max=%.1fus%n",
+                label, sortedLatencies.length,
+                percentile(sortedLatencies, 50) / 1_000.0,
+                percentile(sortedLatencies, 99) / 1_000.0,
+                sortedLatencies[sortedLatencies.length - 1] / 1_000.0);
+    }
+
+    private long percentile(long[] sortedLatencies, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)];
+    }
+}
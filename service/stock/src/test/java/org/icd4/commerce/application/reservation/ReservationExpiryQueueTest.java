@@ -0,0 +1,44 @@
+package org.icd4.commerce.application.reservation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationExpiryQueueTest {
+
+    @Test
+    @DisplayName("만료 시점이 빠른 선점부터 꺼내진다")
+    void takeInExpiryOrder() throws InterruptedException {
+        // Given
+        ReservationExpiryQueue queue = new ReservationExpiryQueue();
+        LocalDateTime now = LocalDateTime.now();
+        queue.schedule("later", now.plusNanos(200_000_000));
+        queue.schedule("sooner", now.plusNanos(50_000_000));
+        queue.schedule("already-expired", now.minusSeconds(1));
+
+        // When & Then
+        assertThat(queue.take()).isEqualTo("already-expired");
+        assertThat(queue.take()).isEqualTo("sooner");
+        assertThat(queue.take()).isEqualTo("later");
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시점 전에는 꺼내지지 않는다")
+    void notTakenBeforeExpiry() throws InterruptedException {
+        // Given
+        ReservationExpiryQueue queue = new ReservationExpiryQueue();
+        queue.schedule("reservation", LocalDateTime.now().plusNanos(150_000_000));
+        long startedAt = System.nanoTime();
+
+        // When
+        String reservationId = queue.take();
+
+        // Then
+        assertThat(reservationId).isEqualTo("reservation");
+        assertThat(System.nanoTime() - startedAt).isGreaterThanOrEqualTo(100_000_000L);
+    }
+}
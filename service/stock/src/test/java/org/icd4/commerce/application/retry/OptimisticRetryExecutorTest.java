@@ -0,0 +1,89 @@
+package org.icd4.commerce.application.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticRetryExecutorTest {
+
+    @Test
+    @DisplayName("버전 충돌이 나면 다시 실행해 성공한 결과를 반환한다")
+    void retryUntilSuccess() {
+        // Given
+        OptimisticRetryExecutor executor = executor(5, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        Long result = executor.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Stock", "stock-id");
+            }
+            return 42L;
+        });
+
+        // Then
+        assertThat(result).isEqualTo(42L);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(executor.conflictCount()).isEqualTo(2.0);
+        assertThat(executor.retryCount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 충돌 예외를 그대로 던진다")
+    void exhaustedByAttempts() {
+        // Given
+        OptimisticRetryExecutor executor = executor(3, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Stock", "stock-id");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시도 예산이 없으면 재시도하지 않는다")
+    void exhaustedByBudget() {
+        // Given
+        OptimisticRetryExecutor executor = executor(5, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Stock", "stock-id");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(executor.retryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다")
+    void noRetryForOtherExceptions() {
+        // Given
+        OptimisticRetryExecutor executor = executor(5, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("요청한 수량이 현재 재고보다 많습니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    private OptimisticRetryExecutor executor(int maxAttempts, long budgetMaxRetries) {
+        return new OptimisticRetryExecutor(TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(),
+                maxAttempts, 1, 2, 0.0, budgetMaxRetries);
+    }
+}
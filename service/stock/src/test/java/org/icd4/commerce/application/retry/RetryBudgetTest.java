@@ -0,0 +1,42 @@
+package org.icd4.commerce.application.retry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("적립된 만큼만 재시도할 수 있고, 요청이 들어오면 비율만큼 다시 적립된다")
+    void withdrawAndDeposit() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.5, 2);
+
+        // When & Then - 가득 찬 상태(2회)로 시작
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        // 요청 2건 → 재시도 1회 적립
+        budget.recordRequest();
+        assertThat(budget.tryAcquire()).isFalse();
+        budget.recordRequest();
+        assertThat(budget.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수 이상으로는 적립되지 않는다")
+    void cappedAtMax() {
+        // Given
+        RetryBudget budget = new RetryBudget(1.0, 3);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        // Then
+        assertThat(budget.available()).isEqualTo(3.0);
+    }
+}
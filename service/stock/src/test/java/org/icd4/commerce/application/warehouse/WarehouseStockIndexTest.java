@@ -0,0 +1,91 @@
+package org.icd4.commerce.application.warehouse;
+
+import org.icd4.commerce.domain.Warehouse;
+import org.icd4.commerce.domain.WarehouseAllocation;
+import org.icd4.commerce.domain.WarehouseStock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WarehouseStockIndexTest {
+    // 배송지: 서울 강남
+    private static final double LATITUDE = 37.4979;
+    private static final double LONGITUDE = 127.0276;
+
+    private final Supplier<List<Warehouse>> warehouses = () -> List.of(
+            Warehouse.register("WH-SEOUL", "서울", 37.5665, 126.9780),
+            Warehouse.register("WH-DAEJEON", "대전", 36.3504, 127.3845),
+            Warehouse.register("WH-BUSAN", "부산", 35.1796, 129.0756));
+
+    @Test
+    @DisplayName("전량 출고할 수 있는 창고 중 가장 가까운 창고 한 곳에 할당된다")
+    void nearestSingleWarehouse() {
+        // Given
+        WarehouseStockIndex index = new WarehouseStockIndex();
+        Supplier<List<WarehouseStock>> stocks = () -> List.of(
+                stock("WH-SEOUL", 2L), stock("WH-DAEJEON", 10L), stock("WH-BUSAN", 100L));
+
+        // When
+        List<WarehouseAllocation> allocations = index.plan("index-sku-1", 5L, LATITUDE, LONGITUDE, warehouses, stocks);
+
+        // Then
+        assertThat(allocations).containsExactly(new WarehouseAllocation("WH-DAEJEON", 5L));
+    }
+
+    @Test
+    @DisplayName("한 창고로 부족하면 가까운 창고부터 나눠 할당된다")
+    void splitByDistance() {
+        // Given
+        WarehouseStockIndex index = new WarehouseStockIndex();
+        Supplier<List<WarehouseStock>> stocks = () -> List.of(
+                stock("WH-SEOUL", 2L), stock("WH-DAEJEON", 3L), stock("WH-BUSAN", 4L));
+
+        // When
+        List<WarehouseAllocation> allocations = index.plan("index-sku-2", 7L, LATITUDE, LONGITUDE, warehouses, stocks);
+
+        // Then
+        assertThat(allocations).containsExactly(
+                new WarehouseAllocation("WH-SEOUL", 2L),
+                new WarehouseAllocation("WH-DAEJEON", 3L),
+                new WarehouseAllocation("WH-BUSAN", 2L));
+    }
+
+    @Test
+    @DisplayName("한 번 적재된 SKU는 DB를 다시 읽지 않고 변경분만 반영된다")
+    void loadOnceAndApplyDelta() {
+        // Given
+        WarehouseStockIndex index = new WarehouseStockIndex();
+        int[] loads = {0};
+        Supplier<List<WarehouseStock>> stocks = () -> {
+            loads[0]++;
+            return List.of(stock("WH-SEOUL", 5L));
+        };
+        index.plan("index-sku-3", 1L, LATITUDE, LONGITUDE, warehouses, stocks);
+
+        // When
+        index.apply("index-sku-3", "WH-SEOUL", -5L);
+
+        // Then
+        assertThatThrownBy(() -> index.plan("index-sku-3", 1L, LATITUDE, LONGITUDE, warehouses, stocks))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("창고 재고 합계보다 많습니다");
+        assertThat(loads[0]).isEqualTo(1);
+
+        // 비우면 다음 조회 때 다시 적재된다
+        index.evict("index-sku-3");
+        assertThat(index.plan("index-sku-3", 1L, LATITUDE, LONGITUDE, warehouses, stocks))
+                .containsExactly(new WarehouseAllocation("WH-SEOUL", 1L));
+        assertThat(loads[0]).isEqualTo(2);
+    }
+
+    private WarehouseStock stock(String warehouseId, long quantity) {
+        WarehouseStock stock = WarehouseStock.create(warehouseId, "sku");
+        stock.receive(quantity);
+        return stock;
+    }
+}
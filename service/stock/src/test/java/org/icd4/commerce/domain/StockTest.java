@@ -101,6 +101,32 @@ class StockTest {
         });
     }
 
+    @Test
+    @DisplayName("재고 상태 - 임계치 이하는 LOW_STOCK, 0은 OUT_OF_STOCK, 입고 시 AVAILABLE로 돌아온다")
+    void statusTransitions() {
+        Stock stock = Stock.register("testProductId", 10L);
+
+        stock.decreaseQuantity(10L - Stock.DEFAULT_LOW_STOCK_THRESHOLD);
+        assertEquals(StockStatus.LOW_STOCK, stock.getStockStatus());
+
+        stock.decreaseQuantity(Stock.DEFAULT_LOW_STOCK_THRESHOLD);
+        assertEquals(StockStatus.OUT_OF_STOCK, stock.getStockStatus());
+
+        stock.applyQuantityDelta(1L);
+        assertEquals(StockStatus.LOW_STOCK, stock.getStockStatus());
+
+        stock.increaseQuantity(100L);
+        assertEquals(StockStatus.AVAILABLE, stock.getStockStatus());
+    }
+
+    @Test
+    @DisplayName("재고 상태 - 임계치 이하의 수량으로 등록하면 LOW_STOCK이다")
+    void registerWithLowQuantity() {
+        Stock stock = Stock.register("testProductId", Stock.DEFAULT_LOW_STOCK_THRESHOLD);
+
+        assertEquals(StockStatus.LOW_STOCK, stock.getStockStatus());
+    }
+
     @Test
     @DisplayName("재고 삭제")
     void delete() {
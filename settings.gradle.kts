@@ -8,7 +8,9 @@ include(
     ":service:product",
     ":service:search",
     ":service:stock",
-    ":service:review"
+    ":service:review",
+    ":benchmark:stock-benchmark",
+    ":benchmark:product-benchmark"
 )
 
 // configurations